@@ -0,0 +1,238 @@
+package com.automation.core.annotation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a concrete delegate class for every {@code @ImplementedBy} element interface.
+ * <p>
+ * For an interface {@code com.example.Button} the class {@code com.example.Button_ElementDelegate} is generated.
+ * Every interface method is implemented as a plain call on the element resolved by
+ * {@code com.automation.core.factory.ElementHandler}, so page object fields avoid the
+ * {@link java.lang.reflect.Proxy} dispatch and argument boxing. A stale element is handed to the handler
+ * to be resolved again once.
+ *
+ * @see com.automation.core.factory.ElementDelegate
+ */
+@SupportedAnnotationTypes(ElementDelegateProcessor.IMPLEMENTED_BY)
+public class ElementDelegateProcessor extends AbstractProcessor {
+
+    static final String IMPLEMENTED_BY = "com.automation.core.annotation.ImplementedBy";
+    private static final String EXT_WEB_ELEMENT = "com.automation.core.base.ExtWebElement";
+    private static final String ELEMENT_DELEGATE = "com.automation.core.factory.ElementDelegate";
+    private static final String ELEMENT_HANDLER = "com.automation.core.factory.ElementHandler";
+    private static final String STALE_ELEMENT = "org.openqa.selenium.StaleElementReferenceException";
+    private static final String SUFFIX = "_ElementDelegate";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final Elements elements = processingEnv.getElementUtils();
+        final TypeElement implementedBy = elements.getTypeElement(IMPLEMENTED_BY);
+        final TypeElement extWebElement = elements.getTypeElement(EXT_WEB_ELEMENT);
+        if (implementedBy == null || extWebElement == null) {
+            return false;
+        }
+        final Types types = processingEnv.getTypeUtils();
+        for (final Element element : roundEnv.getElementsAnnotatedWith(implementedBy)) {
+            if (element.getKind() != ElementKind.INTERFACE || element.getModifiers().contains(Modifier.PRIVATE)
+                || !types.isAssignable(types.erasure(element.asType()), types.erasure(extWebElement.asType()))) {
+                continue;
+            }
+            final TypeElement iface = (TypeElement) element;
+            if (!iface.getTypeParameters().isEmpty()) {
+                continue;
+            }
+            try {
+                write(iface);
+            } catch (final IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to generate element delegate: " + e.getMessage(), iface);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method to return the delegate class name of an interface, mirrored at runtime by
+     * {@code ElementDelegate#delegateClassName(Class)}
+     *
+     * @param iface interface
+     * @return binary name of the delegate class
+     */
+    private String delegateName(final TypeElement iface) {
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(iface).toString();
+        final String packageName = packageOf(iface);
+        final String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return simpleName.replace('$', '_') + SUFFIX;
+    }
+
+    private String packageOf(final TypeElement iface) {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(iface);
+        return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    }
+
+    private void write(final TypeElement iface) throws IOException {
+        final String packageName = packageOf(iface);
+        final String className = delegateName(iface);
+        final String ifaceName = iface.getQualifiedName().toString();
+        final Filer filer = processingEnv.getFiler();
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by ").append(ElementDelegateProcessor.class.getSimpleName())
+                .append(", delegates {@link ").append(ifaceName).append("} to the element resolved by its handler\n */\n")
+                .append("public final class ").append(className).append(" extends ").append(ELEMENT_DELEGATE)
+                .append(" implements ").append(ifaceName).append(" {\n\n")
+                .append("    public ").append(className).append("(final ").append(ELEMENT_HANDLER).append(" handler) {\n")
+                .append("        super(handler);\n")
+                .append("    }\n");
+
+        for (final ExecutableElement method : methodsOf(iface)) {
+            appendMethod(source, (DeclaredType) iface.asType(), ifaceName, method);
+        }
+        source.append("}\n");
+
+        final String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = filer.createSourceFile(qualifiedName, iface).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * Method to collect the abstract and default methods of an interface and its super interfaces,
+     * keeping the most specific declaration of each signature
+     */
+    private List<ExecutableElement> methodsOf(final TypeElement iface) {
+        final Types types = processingEnv.getTypeUtils();
+        final DeclaredType ifaceType = (DeclaredType) iface.asType();
+        final Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+        for (final Element member : processingEnv.getElementUtils().getAllMembers(iface)) {
+            if (member.getKind() != ElementKind.METHOD || member.getEnclosingElement().getKind() != ElementKind.INTERFACE
+                || member.getModifiers().contains(Modifier.STATIC) || member.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            final ExecutableElement method = (ExecutableElement) member;
+            final ExecutableType methodType = (ExecutableType) types.asMemberOf(ifaceType, method);
+            final String signature = method.getSimpleName() + methodType.getParameterTypes().stream()
+                    .map(type -> types.erasure(type).toString())
+                    .collect(Collectors.joining(",", "(", ")"));
+            final ExecutableElement existing = methods.get(signature);
+            if (existing == null || isMoreSpecific(ifaceType, method, existing)) {
+                methods.put(signature, method);
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private boolean isMoreSpecific(final DeclaredType ifaceType, final ExecutableElement candidate, final ExecutableElement existing) {
+        final Types types = processingEnv.getTypeUtils();
+        final TypeMirror candidateReturn = ((ExecutableType) types.asMemberOf(ifaceType, candidate)).getReturnType();
+        final TypeMirror existingReturn = ((ExecutableType) types.asMemberOf(ifaceType, existing)).getReturnType();
+        if (!types.isSameType(candidateReturn, existingReturn)) {
+            return types.isSubtype(candidateReturn, existingReturn);
+        }
+        return types.isSubtype(types.erasure(candidate.getEnclosingElement().asType()),
+                types.erasure(existing.getEnclosingElement().asType()));
+    }
+
+    private void appendMethod(final StringBuilder source, final DeclaredType ifaceType, final String ifaceName, final ExecutableElement method) {
+        final ExecutableType methodType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(ifaceType, method);
+        final List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+
+        source.append("\n    @Override\n    public ");
+        if (!method.getTypeParameters().isEmpty()) {
+            source.append(method.getTypeParameters().stream()
+                    .map(this::typeParameter)
+                    .collect(Collectors.joining(", ", "<", "> ")));
+        }
+        source.append(methodType.getReturnType()).append(' ').append(method.getSimpleName()).append('(');
+        final List<String> arguments = new ArrayList<>();
+        for (int index = 0; index < parameterTypes.size(); index++) {
+            String type = parameterTypes.get(index).toString();
+            if (method.isVarArgs() && index == parameterTypes.size() - 1 && type.endsWith("[]")) {
+                type = type.substring(0, type.length() - 2) + "...";
+            }
+            final String argument = "arg" + index;
+            arguments.add(argument);
+            source.append(index == 0 ? "" : ", ").append("final ").append(type).append(' ').append(argument);
+        }
+        source.append(')');
+        if (!methodType.getThrownTypes().isEmpty()) {
+            source.append(methodType.getThrownTypes().stream()
+                    .map(TypeMirror::toString)
+                    .collect(Collectors.joining(", ", " throws ", "")));
+        }
+        final String call = ")." + method.getSimpleName() + "(" + String.join(", ", arguments) + ");\n";
+        final String statement = methodType.getReturnType().getKind() == TypeKind.VOID ? "" : "return ";
+        source.append(" {\n");
+        if (isProbe(method, methodType)) {
+            source.append("        final Object probed = probe();\n")
+                    .append("        if (probed == null) {\n")
+                    .append("            return false;\n")
+                    .append("        }\n")
+                    .append("        try {\n")
+                    .append("            return ((").append(ifaceName).append(") probed").append(call)
+                    .append("        } catch (final ").append(STALE_ELEMENT).append(" e) {\n")
+                    .append("            return ((").append(ifaceName).append(") recover(e)").append(call)
+                    .append("        }\n")
+                    .append("    }\n");
+            return;
+        }
+        source.append("        try {\n")
+                .append("            ").append(statement).append("((").append(ifaceName).append(") target()").append(call)
+                .append("        } catch (final ").append(STALE_ELEMENT).append(" e) {\n")
+                .append("            ").append(statement).append("((").append(ifaceName).append(") recover(e)").append(call)
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    /**
+     * Presence and visibility checks answer false for a missing element instead of waiting for it to be located
+     */
+    private boolean isProbe(final ExecutableElement method, final ExecutableType methodType) {
+        final String name = method.getSimpleName().toString();
+        return methodType.getParameterTypes().isEmpty() && methodType.getReturnType().getKind() == TypeKind.BOOLEAN
+               && ("isPresent".equals(name) || "isVisible".equals(name));
+    }
+
+    private String typeParameter(final TypeParameterElement parameter) {
+        final List<String> bounds = parameter.getBounds().stream()
+                .map(TypeMirror::toString)
+                .filter(bound -> !"java.lang.Object".equals(bound))
+                .collect(Collectors.toList());
+        return bounds.isEmpty() ? parameter.getSimpleName().toString()
+                : parameter.getSimpleName() + " extends " + String.join(" & ", bounds);
+    }
+}
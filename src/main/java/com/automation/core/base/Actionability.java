@@ -0,0 +1,205 @@
+package com.automation.core.base;
+
+import com.automation.core.driver.DriverContext;
+import com.automation.core.exceptions.ElementNotEnabledException;
+import com.automation.core.exceptions.ElementNotVisibleException;
+import com.automation.core.factory.LocatorScripts;
+import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.metrics.CallSite;
+import com.automation.core.utilities.metrics.WaitAccounting;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes sure an element can take an action before the native action is sent, in a single script call per attempt.
+ * <p>
+ * The script checks the element is attached, displayed and enabled, scrolls it into view when needed, waits two
+ * animation frames for its box to stop moving and, for a click, that the element itself receives the click at its
+ * center ({@code elementFromPoint}). A failed check is repeated after a backoff of 0, 20, 100, 100 and then 500
+ * millis until the time out. A detached element fails at once with a {@link StaleElementReferenceException}, so the
+ * page object field locates it again. An {@link ElementNotInteractableException} of the action itself is retried the
+ * same way, which is safe because the driver rejects the command before it takes effect; actions sending several
+ * commands, such as {@link TypingEngine}, must not let it escape once the first one went through.
+ * <p>
+ * When scripts cannot run, e.g. in a native app context, the native action is sent without the check.
+ */
+@Slf4j
+public final class Actionability {
+
+    private static final long[] BACKOFF_MILLIS = {0, 20, 100, 100, 500};
+    private static final String READY = "ready";
+
+    private static final String JSACTIONABLE = "var element = arguments[0], action = arguments[1];\n" +
+            "var done = arguments[arguments.length - 1];\n" +
+            LocatorScripts.IS_DISPLAYED +
+            "function frame(next) {\n" +
+            "  var called = false;\n" +
+            "  function once() { if (!called) { called = true; next(); } }\n" +
+            "  window.requestAnimationFrame(once);\n" +
+            "  setTimeout(once, 100);\n" +
+            "}\n" +
+            "function describe(e) {\n" +
+            "  var name = e.tagName.toLowerCase() + (e.id ? '#' + e.id : '');\n" +
+            "  return typeof e.className === 'string' && e.className.trim() ? name + '.' + e.className.trim().split(/\\s+/).join('.') : name;\n" +
+            "}\n" +
+            "function box() { var r = element.getBoundingClientRect(); return [r.left, r.top, r.width, r.height]; }\n" +
+            "function hitTarget(b) {\n" +
+            "  var x = b[0] + b[2] / 2, y = b[1] + b[3] / 2, hit = document.elementFromPoint(x, y);\n" +
+            "  while (hit && hit.shadowRoot) {\n" +
+            "    var inner = hit.shadowRoot.elementFromPoint(x, y);\n" +
+            "    if (!inner || inner === hit) { break; }\n" +
+            "    hit = inner;\n" +
+            "  }\n" +
+            "  return hit;\n" +
+            "}\n" +
+            "try {\n" +
+            "  if (!element.isConnected) { done('detached'); return; }\n" +
+            "  if (element.type === 'file') { done('ready'); return; }\n" +
+            "  if (!isDisplayed(element)) { done('hidden'); return; }\n" +
+            "  if ((element.matches && element.matches(':disabled')) || element.getAttribute('aria-disabled') === 'true') { done('disabled'); return; }\n" +
+            "  var r = element.getBoundingClientRect();\n" +
+            "  if (r.top < 0 || r.left < 0 || r.bottom > window.innerHeight || r.right > window.innerWidth) {\n" +
+            "    element.scrollIntoView({block: 'center', inline: 'center'});\n" +
+            "  }\n" +
+            "  frame(function () {\n" +
+            "    var first = box();\n" +
+            "    frame(function () {\n" +
+            "      try {\n" +
+            "        var second = box();\n" +
+            "        if (!element.isConnected) { done('detached'); return; }\n" +
+            "        if (first.join() !== second.join()) { done('moving'); return; }\n" +
+            "        if (action === 'click') {\n" +
+            "          var hit = hitTarget(second);\n" +
+            "          if (hit !== element && !(hit && element.contains(hit))) { done('obscured by ' + (hit ? describe(hit) : 'nothing, out of view')); return; }\n" +
+            "        }\n" +
+            "        done('ready');\n" +
+            "      } catch (err) { done('ready'); }\n" +
+            "    });\n" +
+            "  });\n" +
+            "} catch (err) { done('ready'); }";
+
+    /**
+     * Action the element is checked for
+     */
+    public enum Action {
+        /**
+         * attached, displayed, enabled, in view, not moving and receiving the click
+         */
+        CLICK,
+        /**
+         * attached, displayed, enabled, in view and not moving. File inputs, often hidden, are only checked to be
+         * attached.
+         */
+        INPUT
+    }
+
+    private Actionability() {
+    }
+
+    /**
+     * Method to wait until the element can take the action and then perform it. An action failing because the
+     * element was covered or not interactable in the meantime is attempted again until the time out.
+     *
+     * @param driver  {@link WebDriver} of the element
+     * @param element element to act on
+     * @param action  action the element is checked for
+     * @param timeout time out of the checks
+     * @param perform the native action
+     */
+    public static void perform(final WebDriver driver, final WebElement element, final Action action,
+                               final Duration timeout, final Runnable perform) {
+        final JavascriptExecutor executor = DriverContext.executor(driver);
+        if (executor == null || !DriverContext.of(driver).isScriptWaitsSupported()) {
+            perform.run();
+            return;
+        }
+        final Object target = element instanceof WrapsElement ? ((WrapsElement) element).getWrappedElement() : element;
+        final long start = Sleeper.getClock().nanoTime();
+        final long deadline = start + timeout.toNanos();
+        int attempt = 0;
+        while (true) {
+            final String state = check(driver, executor, target, action);
+            if (state == null) {
+                perform.run();
+                return;
+            }
+            if (READY.equals(state)) {
+                try {
+                    perform.run();
+                    record(start, attempt, false);
+                    return;
+                } catch (final ElementNotInteractableException e) {
+                    if (Sleeper.getClock().nanoTime() >= deadline) {
+                        record(start, attempt, true);
+                        throw e;
+                    }
+                    log.debug("Action on {} failed, checking again: {}", element, e.getMessage());
+                }
+            } else if (Sleeper.getClock().nanoTime() >= deadline) {
+                record(start, attempt, true);
+                throw notActionable(state, element, timeout);
+            }
+            Sleeper.getClock().sleep(BACKOFF_MILLIS[Math.min(attempt, BACKOFF_MILLIS.length - 1)]);
+            attempt++;
+        }
+    }
+
+    /**
+     * @return state reported by the script, null when the session cannot run it
+     */
+    private static String check(final WebDriver driver, final JavascriptExecutor executor, final Object target,
+                                final Action action) {
+        final Object state;
+        try {
+            state = executor.executeAsyncScript(JSACTIONABLE, target, action.name().toLowerCase(Locale.ROOT));
+        } catch (final StaleElementReferenceException e) {
+            throw e;
+        } catch (final UnsupportedCommandException | UnsupportedOperationException e) {
+            log.debug("Actionability checks are not supported in this session: {}", e.getMessage());
+            DriverContext.of(driver).disableScriptWaits();
+            return null;
+        } catch (final WebDriverException e) {
+            log.debug("Actionability check failed, performing the action unchecked: {}", e.getMessage());
+            return null;
+        }
+        if ("detached".equals(state)) {
+            throw new StaleElementReferenceException("Element is no longer attached to the DOM");
+        }
+        return state == null ? null : state.toString();
+    }
+
+    private static RuntimeException notActionable(final String state, final WebElement element, final Duration timeout) {
+        final String message = "Element is " + state + " after " + timeout.getSeconds() + " seconds { " + element + " }";
+        switch (state) {
+            case "hidden":
+                return new ElementNotVisibleException(message);
+            case "disabled":
+                return new ElementNotEnabledException(message);
+            default:
+                return state.startsWith("obscured") ? new ElementClickInterceptedException(message)
+                        : new ElementNotInteractableException(message);
+        }
+    }
+
+    /**
+     * Only actions which had to wait are accounted
+     */
+    private static void record(final long start, final int attempts, final boolean timedOut) {
+        if (attempts > 0) {
+            final long millis = TimeUnit.NANOSECONDS.toMillis(Sleeper.getClock().nanoTime() - start);
+            WaitAccounting.record(CallSite.describe(Actionability.class, ExtWebElementImpl.class), millis, attempts, timedOut);
+        }
+    }
+}
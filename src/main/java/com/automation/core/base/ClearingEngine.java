@@ -0,0 +1,181 @@
+package com.automation.core.base;
+
+import com.automation.core.driver.DeviceClass;
+import com.automation.core.driver.DriverContext;
+import com.automation.core.exceptions.CoreException;
+import com.automation.core.utilities.log.ActionLog;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Clears a text field with as few commands as the platform allows.
+ * <p>
+ * Each {@link Strategy} is a single command, followed by one read of the value unless the strategy returns it. The
+ * strategies are tried in the order suited to the device class until the field reads empty. The strategy that worked
+ * is remembered per session and device class and tried first from then on, so a field is cleared with one or two
+ * commands whatever its length.
+ */
+@Slf4j
+public final class ClearingEngine {
+
+    private static final String JSCLEAR = "var e = arguments[0];\n" +
+            "var proto = e instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype\n" +
+            "  : e instanceof HTMLInputElement ? HTMLInputElement.prototype : null;\n" +
+            "if (proto) { Object.getOwnPropertyDescriptor(proto, 'value').set.call(e, ''); }\n" +
+            "else if (e.isContentEditable) { e.textContent = ''; }\n" +
+            "else { return null; }\n" +
+            "e.dispatchEvent(new Event('input', {bubbles: true}));\n" +
+            "e.dispatchEvent(new Event('change', {bubbles: true}));\n" +
+            "return proto ? e.value : e.textContent;";
+
+    private static final Map<DriverContext, Map<DeviceClass, Strategy>> PREFERRED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Single command clearing a field
+     */
+    public enum Strategy {
+        /**
+         * select all and delete, sent as one key sequence
+         */
+        SELECT_ALL,
+        /**
+         * empty value set through the native value setter with input and change events, in one script
+         */
+        NATIVE_SETTER,
+        /**
+         * as many backspaces as the field has characters, sent as one key sequence
+         */
+        BACKSPACES,
+        /**
+         * {@link WebElement#clear()}, e.g. for native app fields
+         */
+        ELEMENT_CLEAR
+    }
+
+    private ClearingEngine() {
+    }
+
+    /**
+     * Method to clear a text field
+     *
+     * @param driver      {@link WebDriver} of the element
+     * @param element     field to clear
+     * @param deviceClass device class of the viewport, see {@link com.automation.core.common.Page#deviceClass()}
+     */
+    public static void clear(final WebDriver driver, final WebElement element, final DeviceClass deviceClass) {
+        clear(driver, element, null, deviceClass);
+    }
+
+    /**
+     * Method to clear a text field found with a locator
+     *
+     * @param driver      {@link WebDriver} of the element
+     * @param element     field to clear
+     * @param by          locator the field was found with, for the log
+     * @param deviceClass device class of the viewport, see {@link com.automation.core.common.Page#deviceClass()}
+     */
+    public static void clear(final WebDriver driver, final WebElement element, final By by, final DeviceClass deviceClass) {
+        final DriverContext context = DriverContext.of(driver);
+        String value = null;
+        for (final Strategy strategy : order(context, deviceClass)) {
+            if (strategy == Strategy.BACKSPACES && value == null) {
+                value = valueOf(element);
+            }
+            if (value != null && value.isEmpty()) {
+                return;
+            }
+            final String left = apply(driver, context, element, strategy, value);
+            if (left == null) {
+                continue;
+            }
+            if (left.isEmpty()) {
+                PREFERRED.computeIfAbsent(context, k -> new ConcurrentHashMap<>()).put(deviceClass, strategy);
+                ActionLog.debug("Cleared with { {} } the field with { {} }", strategy, by);
+                return;
+            }
+            value = left;
+        }
+        throw new CoreException("Unable to clear the field, it still reads { " + value + " } { " + element + " }");
+    }
+
+    private static List<Strategy> order(final DriverContext context, final DeviceClass deviceClass) {
+        final List<Strategy> order = new ArrayList<>(deviceClass == DeviceClass.DESKTOP
+                ? Arrays.asList(Strategy.SELECT_ALL, Strategy.NATIVE_SETTER, Strategy.BACKSPACES)
+                : Arrays.asList(Strategy.NATIVE_SETTER, Strategy.BACKSPACES, Strategy.ELEMENT_CLEAR));
+        final Map<DeviceClass, Strategy> preferredByClass = PREFERRED.get(context);
+        final Strategy preferred = preferredByClass == null ? null : preferredByClass.get(deviceClass);
+        if (preferred != null && order.contains(preferred)) {
+            order.remove(preferred);
+            order.add(0, preferred);
+        }
+        return order;
+    }
+
+    /**
+     * @return value of the field after the strategy, null if the strategy does not apply
+     */
+    private static String apply(final WebDriver driver, final DriverContext context, final WebElement element,
+                                final Strategy strategy, final String value) {
+        switch (strategy) {
+            case SELECT_ALL:
+                element.sendKeys(Keys.CONTROL + "a" + Keys.DELETE);
+                return valueOf(element);
+            case NATIVE_SETTER:
+                return clearWithScript(driver, context, element);
+            case BACKSPACES:
+                final char[] backspaces = new char[value.length()];
+                Arrays.fill(backspaces, Keys.BACK_SPACE.charAt(0));
+                element.sendKeys(new String(backspaces));
+                return valueOf(element);
+            default:
+                element.clear();
+                return valueOf(element);
+        }
+    }
+
+    private static String clearWithScript(final WebDriver driver, final DriverContext context, final WebElement element) {
+        final JavascriptExecutor executor = DriverContext.executor(driver);
+        if (executor == null || !context.isScriptWaitsSupported()) {
+            return null;
+        }
+        final Object target = element instanceof WrapsElement ? ((WrapsElement) element).getWrappedElement() : element;
+        try {
+            final Object left = executor.executeScript(JSCLEAR, target);
+            return left == null ? null : left.toString();
+        } catch (final StaleElementReferenceException e) {
+            throw e;
+        } catch (final UnsupportedCommandException | UnsupportedOperationException e) {
+            log.debug("Scripts are not supported in this session: {}", e.getMessage());
+            context.disableScriptWaits();
+            return null;
+        } catch (final WebDriverException e) {
+            log.debug("Clearing with a script failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String valueOf(final WebElement element) {
+        final String value = element.getAttribute("value");
+        if (value != null) {
+            return value;
+        }
+        final String text = element.getText();
+        return text == null ? "" : text;
+    }
+}
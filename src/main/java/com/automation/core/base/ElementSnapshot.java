@@ -0,0 +1,119 @@
+package com.automation.core.base;
+
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable state of one element captured by {@link ElementSnapshots}
+ */
+public final class ElementSnapshot {
+
+    private final int index;
+    private final WebElement element;
+    private final String tagName;
+    private final String text;
+    private final String value;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final Rectangle rect;
+    private final Map<String, String> attributes;
+
+    ElementSnapshot(final int index, final WebElement element, final String tagName, final String text, final String value,
+                    final boolean displayed, final boolean enabled, final boolean selected, final Rectangle rect,
+                    final Map<String, String> attributes) {
+        this.index = index;
+        this.element = element;
+        this.tagName = tagName;
+        this.text = text;
+        this.value = value;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.rect = rect;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+    }
+
+    /**
+     * @return position of the element in the captured list
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the captured list item, e.g. the {@link ExtWebElement} wrapper
+     */
+    public WebElement getElement() {
+        return element;
+    }
+
+    /**
+     * @return lower case tag name
+     */
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * @return rendered text, empty when the element is not displayed
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return value property of form elements, null for other elements
+     */
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if a checkbox, radio or option is checked/selected
+     */
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * @return position relative to the document and size
+     */
+    public Rectangle getRect() {
+        return rect;
+    }
+
+    /**
+     * @param name attribute name
+     * @return DOM attribute value, null if the attribute is absent or was not requested
+     */
+    public String getAttribute(final String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * @return requested DOM attributes, absent ones map to null
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementSnapshot{index=" + index + ", tagName=" + tagName + ", text=" + text + ", value=" + value
+               + ", displayed=" + displayed + ", enabled=" + enabled + ", selected=" + selected
+               + ", rect=" + rect.getPoint() + " " + rect.getDimension() + ", attributes=" + attributes + "}";
+    }
+}
@@ -0,0 +1,128 @@
+package com.automation.core.base;
+
+import com.automation.core.driver.DriverContext;
+import com.automation.core.factory.LocatorScripts;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Captures text, value, visibility, enabled/selected state, rectangle and chosen attributes of a list of elements
+ * in a single script round trip, instead of one {@code waitUntilPresent} and one getter call per element and property.
+ * <pre>
+ *     final List&lt;ElementSnapshot&gt; tiles = ElementSnapshots.captureVisible(productTiles, "data-sku");
+ * </pre>
+ * Visibility is evaluated in the browser from the computed style and box of the element, close to but not
+ * identical with {@link WebElement#isDisplayed()}.
+ */
+public final class ElementSnapshots {
+
+    private static final String JSSNAPSHOT = "var elements = arguments[0], attributes = arguments[1], visibleOnly = arguments[2];\n" +
+            LocatorScripts.IS_DISPLAYED +
+            "var rows = [];\n" +
+            "for (var i = 0; i < elements.length; i++) {\n" +
+            "  var e = elements[i], displayed = isDisplayed(e);\n" +
+            "  if (visibleOnly && !displayed) { continue; }\n" +
+            "  var r = e.getBoundingClientRect(), attrs = {};\n" +
+            "  for (var a = 0; a < attributes.length; a++) { attrs[attributes[a]] = e.getAttribute(attributes[a]); }\n" +
+            "  rows.push({index: i, tagName: e.tagName.toLowerCase(), text: displayed ? (e.innerText || '').trim() : '',\n" +
+            "    value: ('value' in e && e.value !== undefined && e.value !== null) ? String(e.value) : null,\n" +
+            "    displayed: displayed, enabled: !(e.disabled === true || (e.matches && e.matches(':disabled'))),\n" +
+            "    selected: e.checked === true || e.selected === true,\n" +
+            "    x: Math.round(r.left + window.pageXOffset), y: Math.round(r.top + window.pageYOffset),\n" +
+            "    width: Math.round(r.width), height: Math.round(r.height), attributes: attrs});\n" +
+            "}\n" +
+            "return rows;";
+
+    private ElementSnapshots() {
+    }
+
+    /**
+     * Method to capture the state of all the given elements
+     *
+     * @param elements   elements to capture, e.g. a decorated {@code List<ExtWebElement>} field
+     * @param attributes DOM attributes to capture in addition
+     * @return one snapshot per element, in list order
+     */
+    public static List<ElementSnapshot> capture(final List<? extends WebElement> elements, final String... attributes) {
+        return capture(elements, false, attributes);
+    }
+
+    /**
+     * Method to capture the state of the displayed elements only, the filtering happens in the browser
+     *
+     * @param elements   elements to capture, e.g. a decorated {@code List<ExtWebElement>} field
+     * @param attributes DOM attributes to capture in addition
+     * @return one snapshot per displayed element, in list order
+     */
+    public static List<ElementSnapshot> captureVisible(final List<? extends WebElement> elements, final String... attributes) {
+        return capture(elements, true, attributes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ElementSnapshot> capture(final List<? extends WebElement> elements, final boolean visibleOnly,
+                                                 final String... attributes) {
+        final List<WebElement> items = new ArrayList<>(elements);
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<WebElement> unwrapped = new ArrayList<>(items.size());
+        for (final WebElement item : items) {
+            unwrapped.add(item instanceof WrapsElement ? ((WrapsElement) item).getWrappedElement() : item);
+        }
+        final Object result = executor(items.get(0), unwrapped.get(0))
+                .executeScript(JSSNAPSHOT, unwrapped, Arrays.asList(attributes), visibleOnly);
+        final List<ElementSnapshot> snapshots = new ArrayList<>();
+        for (final Object row : (List<Object>) result) {
+            final Map<String, Object> values = (Map<String, Object>) row;
+            final int index = intOf(values.get("index"));
+            final Map<String, String> attributeValues = new LinkedHashMap<>();
+            final Map<String, Object> capturedAttributes = (Map<String, Object>) values.get("attributes");
+            for (final String attribute : attributes) {
+                final Object value = capturedAttributes.get(attribute);
+                attributeValues.put(attribute, value == null ? null : value.toString());
+            }
+            snapshots.add(new ElementSnapshot(index, items.get(index),
+                    (String) values.get("tagName"),
+                    (String) values.get("text"),
+                    (String) values.get("value"),
+                    Boolean.TRUE.equals(values.get("displayed")),
+                    Boolean.TRUE.equals(values.get("enabled")),
+                    Boolean.TRUE.equals(values.get("selected")),
+                    new Rectangle(new Point(intOf(values.get("x")), intOf(values.get("y"))),
+                            new Dimension(intOf(values.get("width")), intOf(values.get("height")))),
+                    attributeValues));
+        }
+        return snapshots;
+    }
+
+    private static JavascriptExecutor executor(final WebElement item, final WebElement element) {
+        WebDriver driver = null;
+        if (item instanceof ExtWebElement) {
+            driver = ((ExtWebElement) item).getDriver();
+        } else if (element instanceof WrapsDriver) {
+            driver = ((WrapsDriver) element).getWrappedDriver();
+        }
+        final JavascriptExecutor executor = driver == null ? null : DriverContext.executor(driver);
+        if (executor == null) {
+            throw new IllegalArgumentException("Unable to run scripts for element " + item);
+        }
+        return executor;
+    }
+
+    private static int intOf(final Object number) {
+        return number == null ? 0 : ((Number) number).intValue();
+    }
+}
@@ -124,6 +124,25 @@ public interface ExtWebElement extends WebElement, WrapsElement, Locatable {
      */
     ExtWebElement waitUntilEnabled(long timeOutInSeconds);
 
+    /**
+     * Method to wait until the application is idle within default time, with no fetch or XHR request in flight and
+     * no short timer pending
+     *
+     * @return {@link ExtWebElement} object
+     * @see ExtWebElementImpl#waitUntilAppIdle()
+     */
+    ExtWebElement waitUntilAppIdle();
+
+    /**
+     * Method to wait until the application is idle within given time, with no fetch or XHR request in flight and
+     * no short timer pending
+     *
+     * @param timeOutInSeconds time to wait for the application to be idle
+     * @return {@link ExtWebElement} object
+     * @see ExtWebElementImpl#waitUntilAppIdle(long)
+     */
+    ExtWebElement waitUntilAppIdle(long timeOutInSeconds);
+
     /**
      * Method to wait until the {@link ExtWebElement} is clickable within default time
      *
@@ -1,28 +1,37 @@
 package com.automation.core.base;
 
 import com.automation.core.driver.CoreDriver;
+import com.automation.core.driver.TimeoutGovernor;
+import com.automation.core.exceptions.CoreException;
 import com.automation.core.exceptions.ElementEnabledException;
 import com.automation.core.exceptions.ElementNotEnabledException;
 import com.automation.core.exceptions.ElementNotPresentException;
 import com.automation.core.exceptions.ElementVisibleException;
+import com.automation.core.factory.CachingElementLocator;
 import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.log.ActionLog;
+import com.automation.core.utilities.metrics.CallSite;
+import com.automation.core.utilities.metrics.StaleAccounting;
+import com.automation.core.wait.AppIdle;
+import com.automation.core.wait.DomWatcher;
+import com.automation.core.wait.WaitEngine;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Coordinates;
 import org.openqa.selenium.interactions.Locatable;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
 
-import static com.automation.core.allure.AllurePaths.DEFAULT_POLLING_TIME;
 import static com.automation.core.allure.AllurePaths.DEFAULT_WAIT_TIME;
-import static org.testng.Reporter.log;
 
 /**
  * An implementation of the {@link ExtWebElement} interface. Delegates its work to an
@@ -35,7 +44,10 @@ public class ExtWebElementImpl implements ExtWebElement {
     protected By by;
     protected WebDriver driver;
     protected ElementLocator locator;
+    private Supplier<WebElement> resolver;
 
+    private static final int STALE_RETRIES = Integer.getInteger("core.element.stale.retries", 2);
+    private static final Duration APP_IDLE_QUIET = Duration.ofMillis(100);
     private static final String JSHIGHLIGHT = "arguments[0].style.border='3px solid red'";
     private static final String JSCLEARHIGHLIGHT = "arguments[0].style.border='0px'";
 
@@ -55,61 +67,55 @@ public class ExtWebElementImpl implements ExtWebElement {
     }
 
 
+    /**
+     * Clicks once the element is displayed, enabled, in view, not moving and not covered, see {@link Actionability}
+     */
     @Override
     public void click() {
-        log("Element Click " + elementLocator());
-        getElement().click();
+        ActionLog.info("Element Click with { {} }", locator);
+        withRecovery(() -> Actionability.perform(getDriver(), getElement(), Actionability.Action.CLICK,
+                Duration.ofSeconds(DEFAULT_WAIT_TIME), getElement()::click));
     }
 
     @Override
     public void jsClick() {
-        log("Element Javascript Click " + elementLocator());
-        ((CoreDriver) getDriver()).executeScript("arguments[0].scrollIntoView(true);arguments[0].click();", getElement());
+        ActionLog.info("Element Javascript Click with { {} }", locator);
+        withRecovery(() -> ((CoreDriver) getDriver()).executeScript("arguments[0].scrollIntoView(true);arguments[0].click();", getElement()));
     }
 
     /**
+     * Submits once the element is displayed, enabled, in view and not moving, see {@link Actionability}
+     *
      * @see WebElement#submit()
      */
     @Override
     public void submit() {
-        waitUntilPresent();
-        log("Element Submit " + elementLocator());
-        getElement().submit();
+        ActionLog.info("Element Submit with { {} }", locator);
+        withRecovery(() -> Actionability.perform(getDriver(), getElement(), Actionability.Action.INPUT,
+                Duration.ofSeconds(DEFAULT_WAIT_TIME), getElement()::submit));
     }
 
     /**
+     * Types once the element is displayed, enabled, in view and not moving, see {@link Actionability}
+     *
      * @see WebElement#sendKeys(CharSequence...)
      */
     @Override
     public void sendKeys(final CharSequence... textToSet) {
-        waitUntilPresent();
-        getElement().sendKeys(textToSet);
-        final StringBuilder keys = new StringBuilder();
-        for (CharSequence key : textToSet) {
-            if (key instanceof Keys) {
-                if (keys.length() == 0) {
-                    keys.append("Key.").append(((Keys) key).name());
-                } else {
-                    keys.append(" + Key.").append(((Keys) key).name());
-                }
-            } else {
-                keys.append(key.toString());
-            }
-        }
-        log("Sending text/keys { " + keys + " } to the textbox " + elementLocator());
+        withRecovery(() -> Actionability.perform(getDriver(), getElement(), Actionability.Action.INPUT,
+                Duration.ofSeconds(DEFAULT_WAIT_TIME), () -> getElement().sendKeys(textToSet)));
+        ActionLog.info("Sending text/keys { {} } to the textbox with { {} }", textToSet, locator);
     }
 
     /**
+     * Types with the default pause of {@link TypingEngine#DEFAULT_DELAY} after each key
+     *
      * @param textToSet text to set
      * @see ExtWebElement#sendKeybyKey(String)
      */
     @Override
     public void sendKeybyKey(final String textToSet) {
-        waitUntilPresent();
-        Arrays.stream(textToSet.split("")).forEach(str -> {
-            getElement().sendKeys(str);
-            Sleeper.sleep(200);
-        });
+        type(textToSet, index -> TypingEngine.DEFAULT_DELAY);
     }
 
     /**
@@ -119,11 +125,19 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public void sendKeybyKey(final long timegap, final String textToSet) {
-        waitUntilPresent();
-        Arrays.stream(textToSet.split("")).forEach(str -> {
-            getElement().sendKeys(str);
-            Sleeper.sleep(timegap);
-        });
+        type(textToSet, index -> timegap);
+    }
+
+    /**
+     * Types key by key in a single command once the element can take input, see {@link TypingEngine}
+     *
+     * @param textToSet  text to set
+     * @param delayAfter pause in millis after the key at the given index of the text
+     */
+    protected void type(final String textToSet, final IntToLongFunction delayAfter) {
+        ActionLog.info("Typing text { {} } key by key to the textbox with { {} }", textToSet, locator);
+        withRecovery(() -> Actionability.perform(getDriver(), getElement(), Actionability.Action.INPUT,
+                Duration.ofSeconds(DEFAULT_WAIT_TIME), () -> TypingEngine.type(getDriver(), getElement(), textToSet, delayAfter)));
     }
 
     /**
@@ -131,9 +145,11 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public void clear() {
-        waitUntilPresent();
-        log("Clear text " + elementLocator());
-        getElement().clear();
+        ActionLog.info("Clear text with { {} }", locator);
+        withRecovery(() -> {
+            ensurePresent();
+            getElement().clear();
+        });
     }
 
     /**
@@ -141,9 +157,11 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public String getTagName() {
-        waitUntilPresent();
-        final String tagName = getElement().getTagName();
-        log("Tag name is { " + tagName + " } " + elementLocator());
+        final String tagName = withRecovery(() -> {
+            ensurePresent();
+            return getElement().getTagName();
+        });
+        ActionLog.debug("Tag name is { {} } with { {} }", tagName, locator);
         return tagName;
     }
 
@@ -152,9 +170,11 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public String getAttribute(final String attr) {
-        waitUntilPresent();
-        final String value = getElement().getAttribute(attr);
-        log("Value for the attribute { " + attr + " } is { " + value + " } " + elementLocator());
+        final String value = withRecovery(() -> {
+            ensurePresent();
+            return getElement().getAttribute(attr);
+        });
+        ActionLog.debug("Value for the attribute { {} } is { {} } with { {} }", attr, value, locator);
         return value;
     }
 
@@ -163,9 +183,11 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public boolean isSelected() {
-        waitUntilPresent();
-        final boolean selected = getElement().isSelected();
-        log("Element is selected { " + selected + " } " + elementLocator());
+        final boolean selected = withRecovery(() -> {
+            ensurePresent();
+            return getElement().isSelected();
+        });
+        ActionLog.debug("Element is selected { {} } with { {} }", selected, locator);
         return selected;
     }
 
@@ -174,9 +196,11 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public boolean isEnabled() {
-        waitUntilPresent();
-        final boolean enabled = getElement().isEnabled();
-        log("Element is enabled { " + enabled + " } " + elementLocator());
+        final boolean enabled = withRecovery(() -> {
+            ensurePresent();
+            return getElement().isEnabled();
+        });
+        ActionLog.debug("Element is enabled { {} } with { {} }", enabled, locator);
         return enabled;
     }
 
@@ -185,13 +209,16 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public String getText() {
-        waitUntilPresent();
-        String text = getElement().getText();
-        if(text.isEmpty()) {
-            Sleeper.sleep(500);
-            text = getElement().getText();
-        }
-        log("Element text is { " + text + " } " + elementLocator());
+        final String text = withRecovery(() -> {
+            ensurePresent();
+            final String shown = getElement().getText();
+            if (shown.isEmpty()) {
+                Sleeper.sleep(500);
+                return getElement().getText();
+            }
+            return shown;
+        });
+        ActionLog.debug("Element text is { {} } with { {} }", text, locator);
         return text;
     }
 
@@ -200,8 +227,13 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public List<WebElement> findElements(final By by) {
-        log("Finding the element list with DefaultElementLocator { " + by.toString() + " }");
-        return getElement().findElements(by);
+        ActionLog.trace("Finding the element list with DefaultElementLocator { {} }", by);
+        final long start = Sleeper.getClock().nanoTime();
+        final List<WebElement> elements = withRecovery(() -> getElement().findElements(by));
+        if (elements.isEmpty()) {
+            TimeoutGovernor.recordFailedLookup(driver, start, ExtWebElementImpl.class);
+        }
+        return elements;
     }
 
     /**
@@ -209,28 +241,58 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public WebElement findElement(final By by) {
-        log("Finding the element with DefaultElementLocator { " + by.toString() + " }");
-        return getElement().findElement(by);
+        ActionLog.trace("Finding the element with DefaultElementLocator { {} }", by);
+        final long start = Sleeper.getClock().nanoTime();
+        try {
+            return withRecovery(() -> getElement().findElement(by));
+        } catch (final NoSuchElementException e) {
+            TimeoutGovernor.recordFailedLookup(driver, start, ExtWebElementImpl.class);
+            throw e;
+        }
     }
 
     @Override
     public String getTextContent() {
-        waitUntilPresent();
-        final String text = getElement().getAttribute("textContent");
-        log("Element text content is { " + text + " } " + elementLocator());
+        final String text = withRecovery(() -> {
+            ensurePresent();
+            return getElement().getAttribute("textContent");
+        });
+        ActionLog.debug("Element text content is { {} } with { {} }", text, locator);
         return text;
     }
 
+    /**
+     * The elements found are located again through this element when they go stale, by their position
+     */
     @Override
     public List<ExtWebElement> findAllBy(final By by) {
-        waitUntilPresent();
-        return findElements(by).stream().map(element -> new ExtWebElementImpl(driver, element, by, locator)).collect(Collectors.toList());
+        withRecovery(this::ensurePresent);
+        final List<WebElement> found = findElements(by);
+        final List<ExtWebElement> elements = new ArrayList<>(found.size());
+        for (int index = 0; index < found.size(); index++) {
+            final int position = index;
+            final ExtWebElementImpl child = new ExtWebElementImpl(driver, found.get(index), by, locator);
+            child.setResolver(() -> {
+                final List<WebElement> current = findElements(by);
+                if (position >= current.size()) {
+                    throw new NoSuchElementException("Element " + position + " of " + by + " is gone " + elementLocator());
+                }
+                return current.get(position);
+            });
+            elements.add(child);
+        }
+        return elements;
     }
 
+    /**
+     * The element found is located again through this element when it goes stale
+     */
     @Override
     public ExtWebElement findBy(final By by) {
-        waitUntilPresent();
-        return new ExtWebElementImpl(driver, findElement(by), by, locator);
+        withRecovery(this::ensurePresent);
+        final ExtWebElementImpl child = new ExtWebElementImpl(driver, findElement(by), by, locator);
+        child.setResolver(() -> findElement(by));
+        return child;
     }
 
     /**
@@ -238,9 +300,11 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public boolean isDisplayed() {
-        waitUntilPresent();
-        final boolean isDisplayed = getElement().isDisplayed();
-        log("Element is displayed { " + isDisplayed + " } " + elementLocator());
+        final boolean isDisplayed = withRecovery(() -> {
+            ensurePresent();
+            return getElement().isDisplayed();
+        });
+        ActionLog.debug("Element is displayed { {} } with { {} }", isDisplayed, locator);
         return isDisplayed;
     }
 
@@ -249,9 +313,11 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public Point getLocation() {
-        waitUntilPresent();
-        final Point point = getElement().getLocation();
-        log("Element point X,Y { " + point.toString() + " } " + elementLocator());
+        final Point point = withRecovery(() -> {
+            ensurePresent();
+            return getElement().getLocation();
+        });
+        ActionLog.debug("Element point X,Y { {} } with { {} }", point, locator);
         return point;
     }
 
@@ -260,9 +326,11 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public Dimension getSize() {
-        waitUntilPresent();
-        final Dimension dimension = getElement().getSize();
-        log("Element width,height { " + dimension.toString() + " } " + elementLocator());
+        final Dimension dimension = withRecovery(() -> {
+            ensurePresent();
+            return getElement().getSize();
+        });
+        ActionLog.debug("Element width,height { {} } with { {} }", dimension, locator);
         return dimension;
     }
 
@@ -271,9 +339,11 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public Rectangle getRect() {
-        waitUntilPresent();
-        final Rectangle rect = getElement().getRect();
-        log("Element x,y { " + rect.getPoint().toString() + " } and width,height { " + rect.getDimension().toString() + " } " + elementLocator());
+        final Rectangle rect = withRecovery(() -> {
+            ensurePresent();
+            return getElement().getRect();
+        });
+        ActionLog.debug("Element x,y { {} } and width,height { {} } with { {} }", rect.getPoint(), rect.getDimension(), locator);
         return rect;
     }
 
@@ -282,35 +352,41 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public String getCssValue(final String css) {
-        waitUntilPresent();
-        final String cssValue = getElement().getCssValue(css);
-        log("Element CSS value is  { " + cssValue + " } " + elementLocator());
+        final String cssValue = withRecovery(() -> {
+            ensurePresent();
+            return getElement().getCssValue(css);
+        });
+        ActionLog.debug("Element CSS value is { {} } with { {} }", cssValue, locator);
         return cssValue;
     }
 
     @Override
     public void highlight() {
-        waitUntilPresent();
-        log("Element highlight " + elementLocator());
-        ((CoreDriver) getDriver()).executeScript(JSHIGHLIGHT, getElement());
-        Sleeper.sleep(500);
-        ((CoreDriver) getDriver()).executeScript(JSCLEARHIGHLIGHT, getElement());
+        ActionLog.info("Element highlight with { {} }", locator);
+        withRecovery(() -> {
+            ensurePresent();
+            ((CoreDriver) getDriver()).executeScript(JSHIGHLIGHT, getElement());
+            Sleeper.sleep(500);
+            ((CoreDriver) getDriver()).executeScript(JSCLEARHIGHLIGHT, getElement());
+        });
     }
 
     @Override
     public void scrollIntoView() {
-        waitUntilPresent();
-        log("Scrolling Element into view " + elementLocator());
-        ((CoreDriver) getDriver()).executeScript("arguments[0].scrollIntoView(true);", getElement());
+        ActionLog.info("Scrolling Element into view with { {} }", locator);
+        withRecovery(() -> {
+            ensurePresent();
+            ((CoreDriver) getDriver()).executeScript("arguments[0].scrollIntoView(true);", getElement());
+        });
     }
 
     @Override
     public void refresh() {
-        ((CoreDriver) getDriver()).executeScript("const tracker = arguments[0]._valueTracker;\n" +
+        withRecovery(() -> ((CoreDriver) getDriver()).executeScript("const tracker = arguments[0]._valueTracker;\n" +
                 "            if (tracker) {\n" +
                 "                tracker.setValue('');\n" +
                 "            }\n" +
-                "            arguments[0].dispatchEvent(new Event('change', { bubbles: true }));", getElement());
+                "            arguments[0].dispatchEvent(new Event('change', { bubbles: true }));", getElement()));
     }
 
     /**
@@ -318,33 +394,29 @@ public class ExtWebElementImpl implements ExtWebElement {
      */
     @Override
     public <X> X getScreenshotAs(final OutputType<X> outputType) throws WebDriverException {
-        log("Take Screenshot");
+        ActionLog.info("Take Screenshot");
         return ((TakesScreenshot) getDriver()).getScreenshotAs(outputType);
     }
 
     @Override
     public WebDriverWait waitForCondition() {
-        return new WebDriverWait(getDriver(), DEFAULT_WAIT_TIME);
+        return WaitEngine.webDriverWait(getDriver(), Duration.ofSeconds(DEFAULT_WAIT_TIME));
     }
 
     @Override
     public FluentWait fluentWait() {
-        return new FluentWait<>(getDriver())
-                .withTimeout(Duration.ofSeconds(DEFAULT_WAIT_TIME))
-                .pollingEvery(Duration.ofSeconds(DEFAULT_POLLING_TIME))
+        return WaitEngine.fluentWait(getDriver(), Duration.ofSeconds(DEFAULT_WAIT_TIME))
                 .ignoring(NoSuchElementException.class);
     }
 
     @Override
     public FluentWait fluentWait(final int timeout, final int pollingTime) {
-        return new FluentWait<>(getDriver())
-                .withTimeout(Duration.ofSeconds(timeout))
-                .pollingEvery(Duration.ofSeconds(pollingTime))
+        return WaitEngine.fluentWait(getDriver(), Duration.ofSeconds(timeout), Duration.ofSeconds(pollingTime))
                 .ignoring(NoSuchElementException.class);
     }
 
     public WebDriverWait waitForCondition(final long timeOutInSeconds) {
-        return new WebDriverWait(getDriver(), timeOutInSeconds);
+        return WaitEngine.webDriverWait(getDriver(), Duration.ofSeconds(timeOutInSeconds));
     }
 
 
@@ -355,7 +427,7 @@ public class ExtWebElementImpl implements ExtWebElement {
 
     @Override
     public Coordinates getCoordinates() {
-        log("Locating Element Coordinates " + elementLocator());
+        ActionLog.debug("Locating Element Coordinates with { {} }", locator);
         return ((Locatable) getElement()).getCoordinates();
     }
 
@@ -371,7 +443,7 @@ public class ExtWebElementImpl implements ExtWebElement {
 
     @Override
     public boolean isVisible() {
-        log("Element visibility");
+        ActionLog.debug("Element visibility with { {} }", locator);
         try {
             final WebElement element = getElement();
             return (element != null) && (element.isDisplayed());
@@ -383,7 +455,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElement waitUntilVisible() {
         try {
-            waitForCondition().until(ExpectedConditions.visibilityOf(getElement()));
+            withRecovery(() -> await(DomWatcher.Condition.VISIBLE, null, DEFAULT_WAIT_TIME, ExpectedConditions.visibilityOf(getElement())));
         } catch (final TimeoutException cause) {
             throw new ElementNotVisibleException("Element is not visible " + elementLocator());
         }
@@ -393,7 +465,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElement waitUntilVisible(final long timeOutInSeconds) {
         try {
-            waitForCondition(timeOutInSeconds).until(ExpectedConditions.visibilityOf(getElement()));
+            withRecovery(() -> await(DomWatcher.Condition.VISIBLE, null, timeOutInSeconds, ExpectedConditions.visibilityOf(getElement())));
         } catch (final TimeoutException cause) {
             throw new ElementNotVisibleException("Element is not visible after " + timeOutInSeconds + " seconds " + elementLocator());
         }
@@ -403,7 +475,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElement waitByUntilVisible() {
         try {
-            waitForCondition().until(ExpectedConditions.visibilityOfElementLocated(by));
+            await(DomWatcher.Condition.VISIBLE, by, DEFAULT_WAIT_TIME, ExpectedConditions.visibilityOfElementLocated(by));
         } catch (final TimeoutException cause) {
             throw new ElementNotVisibleException("Element is not visible " + elementLocator());
         }
@@ -413,7 +485,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElement waitByUntilVisible(final long timeOutInSeconds) {
         try {
-            waitForCondition(timeOutInSeconds).until(ExpectedConditions.visibilityOfElementLocated(by));
+            await(DomWatcher.Condition.VISIBLE, by, timeOutInSeconds, ExpectedConditions.visibilityOfElementLocated(by));
         } catch (final TimeoutException cause) {
             throw new ElementNotVisibleException("Element is not visible after " + timeOutInSeconds + " seconds " + elementLocator());
         }
@@ -423,7 +495,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElement waitUntilPresent() {
         try {
-            waitForCondition().until(Expectations.elementIsPresent(this));
+            await(DomWatcher.Condition.PRESENT, null, DEFAULT_WAIT_TIME, Expectations.elementIsPresent(this));
         } catch (final TimeoutException cause) {
             throw new ElementNotPresentException("Element is not present " + elementLocator());
         }
@@ -433,7 +505,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElement waitUntilPresent(final long timeOutInSeconds) {
         try {
-            waitForCondition(timeOutInSeconds).until(Expectations.elementIsPresent(this));
+            await(DomWatcher.Condition.PRESENT, null, timeOutInSeconds, Expectations.elementIsPresent(this));
         } catch (final TimeoutException cause) {
             throw new ElementNotPresentException("Element is not present after " + timeOutInSeconds + " seconds " + elementLocator());
         }
@@ -443,7 +515,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public boolean waitUntilNotVisible() {
         try {
-            return waitForCondition().until(ExpectedConditions.invisibilityOf(getElement()));
+            return await(DomWatcher.Condition.INVISIBLE, null, DEFAULT_WAIT_TIME, ExpectedConditions.invisibilityOf(getElement()));
         } catch (final TimeoutException cause) {
             throw new ElementVisibleException("Element is still visible " + elementLocator());
         }
@@ -452,7 +524,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public boolean waitUntilNotVisible(final long timeOutInSeconds) {
         try {
-            return waitForCondition(timeOutInSeconds).until(ExpectedConditions.invisibilityOf(getElement()));
+            return await(DomWatcher.Condition.INVISIBLE, null, timeOutInSeconds, ExpectedConditions.invisibilityOf(getElement()));
         } catch (final TimeoutException cause) {
             throw new ElementVisibleException("Element is still visible after " + timeOutInSeconds + " seconds " + elementLocator());
         }
@@ -462,7 +534,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElementImpl waitUntilEnabled() {
         try {
-            waitForCondition().until(Expectations.elementIsEnabled(this));
+            elementWait(DEFAULT_WAIT_TIME).until(Expectations.elementIsEnabled(this));
         } catch (final TimeoutException cause) {
             throw new ElementNotEnabledException("Element is not enabled " + elementLocator());
         }
@@ -472,17 +544,33 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElement waitUntilEnabled(final long timeOutInSeconds) {
         try {
-            waitForCondition(timeOutInSeconds).until(Expectations.elementIsEnabled(this));
+            elementWait(timeOutInSeconds).until(Expectations.elementIsEnabled(this));
         } catch (final TimeoutException cause) {
             throw new ElementNotEnabledException("Element is not enabled after " + timeOutInSeconds + " seconds " + elementLocator());
         }
         return this;
     }
 
+    @Override
+    public ExtWebElement waitUntilAppIdle() {
+        return waitUntilAppIdle(DEFAULT_WAIT_TIME);
+    }
+
+    /**
+     * Waits in a single script call, see {@link AppIdle}
+     */
+    @Override
+    public ExtWebElement waitUntilAppIdle(final long timeOutInSeconds) {
+        if (!AppIdle.await(getDriver(), APP_IDLE_QUIET, 0, Duration.ofSeconds(timeOutInSeconds))) {
+            throw new CoreException("Application is not idle after " + timeOutInSeconds + " seconds " + elementLocator());
+        }
+        return this;
+    }
+
     @Override
     public ExtWebElement waitUntilClickable() {
         try {
-            waitForCondition().until(ExpectedConditions.elementToBeClickable(getElement()));
+            withRecovery(() -> elementWait(DEFAULT_WAIT_TIME).until(ExpectedConditions.elementToBeClickable(getElement())));
         } catch (final TimeoutException cause) {
             throw new ElementNotEnabledException("Element is not clickable" + elementLocator());
         }
@@ -492,7 +580,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElement waitUntilClickable(final long timeOutInSeconds) {
         try {
-            waitForCondition(timeOutInSeconds).until(ExpectedConditions.elementToBeClickable(getElement()));
+            withRecovery(() -> elementWait(timeOutInSeconds).until(ExpectedConditions.elementToBeClickable(getElement())));
         } catch (final TimeoutException cause) {
             throw new ElementNotEnabledException("Element is not clickable after " + timeOutInSeconds + " seconds " + elementLocator());
         }
@@ -502,7 +590,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElementImpl waitUntilDisabled() {
         try {
-            waitForCondition().until(Expectations.elementIsNotEnabled(this));
+            elementWait(DEFAULT_WAIT_TIME).until(Expectations.elementIsNotEnabled(this));
         } catch (final TimeoutException cause) {
             throw new ElementEnabledException("Element is still enabled " + elementLocator());
         }
@@ -512,7 +600,7 @@ public class ExtWebElementImpl implements ExtWebElement {
     @Override
     public ExtWebElementImpl waitUntilDisabled(final long timeOutInSeconds) {
         try {
-            waitForCondition(timeOutInSeconds).until(Expectations.elementIsNotEnabled(this));
+            elementWait(timeOutInSeconds).until(Expectations.elementIsNotEnabled(this));
         } catch (final TimeoutException cause) {
             throw new ElementEnabledException("Element is still enabled after " + timeOutInSeconds + " seconds " + elementLocator());
         }
@@ -522,9 +610,11 @@ public class ExtWebElementImpl implements ExtWebElement {
 
     @Override
     public String getValue() {
-        waitUntilPresent();
-        final String value = getElement().getAttribute("value");
-        log("Element value attribute is { " + value + " } " + elementLocator());
+        final String value = withRecovery(() -> {
+            ensurePresent();
+            return getElement().getAttribute("value");
+        });
+        ActionLog.debug("Element value attribute is { {} } with { {} }", value, locator);
         return value;
     }
 
@@ -544,6 +634,128 @@ public class ExtWebElementImpl implements ExtWebElement {
         }
     }
 
+    /**
+     * Method to wait for a visibility or presence condition. With {@link DomWatcher} enabled and the condition not met
+     * yet, the wait blocks in the browser until the DOM satisfies it and then confirms it with the polling wait.
+     *
+     * @param condition        condition for the browser side wait
+     * @param locator          locator to watch, or null to watch the resolved element
+     * @param timeOutInSeconds time out in seconds
+     * @param expected         condition of the polling wait
+     * @param <V>              result type of the condition
+     * @return result of the condition
+     */
+    private <V> V await(final DomWatcher.Condition condition, final By locator, final long timeOutInSeconds,
+                        final ExpectedCondition<V> expected) {
+        if (!DomWatcher.isEnabled()) {
+            return waitFor(locator, Duration.ofSeconds(timeOutInSeconds)).until(expected);
+        }
+        final V met = locator == null ? check(expected) : TimeoutGovernor.withoutImplicitWait(getDriver(), () -> check(expected));
+        if (met != null) {
+            return met;
+        }
+        final Duration remaining = DomWatcher.await(getDriver(), condition, locator == null ? getElement() : null,
+                locator, Duration.ofSeconds(timeOutInSeconds));
+        return waitFor(locator, remaining).until(expected);
+    }
+
+    private <V> V check(final ExpectedCondition<V> expected) {
+        try {
+            final V result = expected.apply(getDriver());
+            if (result != null && !Boolean.FALSE.equals(result)) {
+                return result;
+            }
+        } catch (final NotFoundException | StaleElementReferenceException e) {
+            // not met yet
+        }
+        return null;
+    }
+
+    /**
+     * Method to create the wait for a condition. Conditions on a locator run without the implicit wait, conditions
+     * on the resolved element do not locate anything and leave it as it is.
+     *
+     * @param locator locator of the condition, or null
+     * @param timeout time out of the wait
+     * @return {@link WebDriverWait}
+     */
+    private WebDriverWait waitFor(final By locator, final Duration timeout) {
+        return locator == null ? WaitEngine.elementWait(getDriver(), timeout) : WaitEngine.webDriverWait(getDriver(), timeout);
+    }
+
+    private WebDriverWait elementWait(final long timeOutInSeconds) {
+        return WaitEngine.elementWait(getDriver(), Duration.ofSeconds(timeOutInSeconds));
+    }
+
+    /**
+     * Method to set how the element is located again after it went stale, e.g. after the page re-rendered it.
+     * Set by the page object handlers for page fields and their list items, and by {@link #findBy(By)} and
+     * {@link #findAllBy(By)} for the elements found inside this one.
+     *
+     * @param resolver locates the element again, throws a {@link NotFoundException} when it is gone
+     */
+    public void setResolver(final Supplier<WebElement> resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Method to run an operation on the element, locating the element again when it went stale and repeating the
+     * operation, at most {@code core.element.stale.retries} times (default 2) per operation. Without a resolver
+     * the stale exception is thrown as is. The page object handlers do not retry on top of this, see
+     * {@link com.automation.core.factory.ElementHandler#recover}.
+     *
+     * @param operation operation on {@link #getElement()}
+     * @param <T>       result type of the operation
+     * @return result of the operation
+     */
+    protected final <T> T withRecovery(final Supplier<T> operation) {
+        int retries = 0;
+        while (true) {
+            try {
+                return operation.get();
+            } catch (final StaleElementReferenceException stale) {
+                if (resolver == null) {
+                    throw stale;
+                }
+                if (retries++ >= STALE_RETRIES) {
+                    StaleAccounting.record(CallSite.describe(ExtWebElementImpl.class), false);
+                    throw stale;
+                }
+                try {
+                    element = resolver.get();
+                } catch (final NotFoundException gone) {
+                    StaleAccounting.record(CallSite.describe(ExtWebElementImpl.class), false);
+                    gone.addSuppressed(stale);
+                    throw gone;
+                }
+                StaleAccounting.record(CallSite.describe(ExtWebElementImpl.class), true);
+                log.debug("Located stale element again {}", elementLocator());
+            }
+        }
+    }
+
+    /**
+     * @param operation operation on {@link #getElement()} without result
+     * @see #withRecovery(Supplier)
+     */
+    protected final void withRecovery(final Runnable operation) {
+        withRecovery(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Method to make sure the element is present before acting on it. An element served from the
+     * {@link CachingElementLocator} in the current DOM epoch was just resolved and is not checked again.
+     */
+    private void ensurePresent() {
+        if (locator instanceof CachingElementLocator && ((CachingElementLocator) locator).isCurrent(element)) {
+            return;
+        }
+        waitUntilPresent();
+    }
+
     /**
      * Method to log the locator
      *
@@ -0,0 +1,109 @@
+package com.automation.core.base;
+
+import com.automation.core.driver.DriverContext;
+import com.automation.core.exceptions.CoreException;
+import com.automation.core.utilities.Sleeper;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.interactions.KeyInput;
+import org.openqa.selenium.interactions.Pause;
+import org.openqa.selenium.interactions.Sequence;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Types text key by key like a user, with a pause after each key, in a single W3C Actions command.
+ * <p>
+ * The element is focused with an empty {@link WebElement#sendKeys(CharSequence...)}, which puts the caret at the end
+ * of the field, then every character becomes a key down, a key up and a pause tick of one keyboard sequence. The
+ * browser plays the sequence and its pauses locally, so typing costs two commands whatever the length of the text.
+ * <p>
+ * When the session does not support key actions, e.g. in a native app context, each character is sent with its own
+ * {@link WebElement#sendKeys(CharSequence...)} and the pauses are slept on this side. Typing is not repeated once
+ * a key went out: an element going stale or not taking input after the first character fails with a
+ * {@link CoreException}, which the stale element recovery and the actionability retry leave alone, instead of typing
+ * the start of the text twice.
+ */
+@Slf4j
+public final class TypingEngine {
+
+    /**
+     * Default pause after each key in millis, set with {@code core.typing.delay}
+     */
+    public static final long DEFAULT_DELAY = Long.getLong("core.typing.delay", 200);
+
+    private TypingEngine() {
+    }
+
+    /**
+     * Method to type the text with the same pause after each key
+     *
+     * @param driver      {@link WebDriver} of the element
+     * @param element     element to type into
+     * @param text        text to type
+     * @param delayMillis pause after each key in millis
+     */
+    public static void type(final WebDriver driver, final WebElement element, final CharSequence text,
+                            final long delayMillis) {
+        type(driver, element, text, index -> delayMillis);
+    }
+
+    /**
+     * Method to type the text with a pause after each key
+     *
+     * @param driver     {@link WebDriver} of the element
+     * @param element    element to type into
+     * @param text       text to type
+     * @param delayAfter pause in millis after the key at the given index of the text
+     */
+    public static void type(final WebDriver driver, final WebElement element, final CharSequence text,
+                            final IntToLongFunction delayAfter) {
+        final Interactive interactive = DriverContext.unwrapTo(driver, Interactive.class);
+        if (interactive != null && DriverContext.of(driver).isKeyActionsSupported()) {
+            element.sendKeys("");
+            try {
+                interactive.perform(Collections.singletonList(sequence(text, delayAfter)));
+                return;
+            } catch (final UnsupportedCommandException | UnsupportedOperationException e) {
+                log.debug("Key actions are not supported in this session: {}", e.getMessage());
+                DriverContext.of(driver).disableKeyActions();
+            }
+        }
+        for (int index = 0; index < text.length(); ) {
+            final int start = index;
+            index += Character.charCount(Character.codePointAt(text, index));
+            try {
+                element.sendKeys(text.subSequence(start, index));
+            } catch (final StaleElementReferenceException | ElementNotInteractableException e) {
+                if (start == 0) {
+                    throw e;
+                }
+                throw new CoreException("Typing stopped after " + start + " of " + text.length()
+                                        + " characters, not typing again over them", e);
+            }
+            Sleeper.sleep(delayAfter.applyAsLong(index - 1));
+        }
+    }
+
+    private static Sequence sequence(final CharSequence text, final IntToLongFunction delayAfter) {
+        final KeyInput keyboard = new KeyInput("keyboard");
+        final Sequence sequence = new Sequence(keyboard, 0);
+        for (int index = 0; index < text.length(); ) {
+            final int codePoint = Character.codePointAt(text, index);
+            index += Character.charCount(codePoint);
+            sequence.addAction(keyboard.createKeyDown(codePoint)).addAction(keyboard.createKeyUp(codePoint));
+            final long delay = delayAfter.applyAsLong(index - 1);
+            if (delay > 0) {
+                sequence.addAction(new Pause(keyboard, Duration.ofMillis(delay)));
+            }
+        }
+        return sequence;
+    }
+}
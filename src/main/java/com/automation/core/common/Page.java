@@ -1,13 +1,23 @@
 package com.automation.core.common;
 
+import com.automation.core.base.Actionability;
+import com.automation.core.base.ClearingEngine;
 import com.automation.core.base.ExtWebElement;
 import com.automation.core.driver.CoreAppiumDriver;
 import com.automation.core.driver.CoreDriver;
 import com.automation.core.driver.CoreIOSDriver;
+import com.automation.core.driver.DeviceClass;
+import com.automation.core.driver.DriverContext;
+import com.automation.core.driver.NetworkIdleWatcher;
+import com.automation.core.driver.PageLoadWatcher;
 import com.automation.core.exceptions.ElementNotEnabledException;
 import com.automation.core.factory.ExtendedPageFactory;
+import com.automation.core.factory.PageSnapshot;
 import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.log.ActionLog;
 import com.automation.core.utilities.grid.PropUtils;
+import com.automation.core.wait.AppIdle;
+import com.automation.core.wait.WaitEngine;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
@@ -22,9 +32,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 
-import static com.automation.core.allure.AllurePaths.DEFAULT_POLLING_TIME;
 import static com.automation.core.allure.AllurePaths.DEFAULT_WAIT_TIME;
-import static org.testng.Reporter.log;
 
 /**
  * Base Page with reusable methods
@@ -33,8 +41,9 @@ import static org.testng.Reporter.log;
 @Slf4j
 public abstract class Page {
 
-    private static final int MOBILE_SCREENWIDTH = 768;
-    private static final int TABLET_SCREENWIDTH = 1025;
+    //Viewport width of the top level window, or of the current frame when the top level window is of another origin
+    private static final String JSVIEWPORT = "try { return [window.top.innerWidth, true]; }\n" +
+            "catch (e) { return [window.innerWidth, false]; }";
 
     //Driver object
     @Autowired(required = false)
@@ -58,6 +67,17 @@ public abstract class Page {
         ExtendedPageFactory.initElements(getDriver().getWrappedDriver(), this);
     }
 
+    /**
+     * Method to resolve presence and visibility of all the decorated fields of the page in one script call. With
+     * element caching enabled the found elements are cached for the following calls on the fields.
+     *
+     * @return state of the page fields
+     * @see PageSnapshot
+     */
+    public PageSnapshot snapshot() {
+        return PageSnapshot.capture(getDriver().getWrappedDriver(), this);
+    }
+
     public CoreDriver getDriver() {
         if (appiumDriver != null) {
             return appiumDriver;
@@ -75,7 +95,7 @@ public abstract class Page {
      */
     public String getTitle() {
         final String title = getDriver().getTitle();
-        log("Title of the page is " + title);
+        ActionLog.debug("Title of the page is {}", title);
         return title;
     }
 
@@ -86,7 +106,7 @@ public abstract class Page {
      */
     public String getCurrentUrl() {
         final String currentUrl = getDriver().getCurrentUrl();
-        log("Current URL is " + currentUrl);
+        ActionLog.debug("Current URL is {}", currentUrl);
         return currentUrl;
     }
 
@@ -96,7 +116,7 @@ public abstract class Page {
      * @param timeInMilliseconds Pause time in milli seconds
      */
     public void waitFor(final long timeInMilliseconds) {
-        log("Sleeping for " + timeInMilliseconds + " milliseconds");
+        ActionLog.info("Sleeping for {} milliseconds", timeInMilliseconds);
         Sleeper.sleep(timeInMilliseconds);
     }
 
@@ -106,7 +126,7 @@ public abstract class Page {
      * @param url URL string
      */
     public void open(final String url) {
-        log("Opening the URL " + url);
+        ActionLog.info("Opening the URL {}", url);
         if (PropUtils.has("external")) {
             //Hit Cookie url once
             final String baseUrl = url.substring(0, url.indexOf(".com") + 4);
@@ -114,6 +134,7 @@ public abstract class Page {
             getDriver().get(cookieUrl);
         }
         getDriver().get(url);
+        AppIdle.install(getDriver());
     }
 
     /**
@@ -122,7 +143,7 @@ public abstract class Page {
      * @return {@link Alert} instance
      */
     public Alert getAlert() {
-        log("Switching to the alert");
+        ActionLog.info("Switching to the alert");
         return getDriver().switchTo().alert();
     }
 
@@ -139,7 +160,7 @@ public abstract class Page {
      * Function to refresh the browser
      */
     public void browserRefresh() {
-        log("Browser refresh");
+        ActionLog.info("Browser refresh");
         getDriver().navigate().refresh();
     }
 
@@ -147,7 +168,7 @@ public abstract class Page {
      * Function to simulate browser back
      */
     public void browserBack() {
-        log("Browser back");
+        ActionLog.info("Browser back");
         getDriver().navigate().back();
     }
 
@@ -158,13 +179,14 @@ public abstract class Page {
     public void navigateBackXPages(final int numOfPages) {
         final CoreDriver coreDriver = getDriver();
         coreDriver.executeScript("window.history.go(-" + numOfPages + ")");
+        coreDriver.getContext().advanceDomEpoch();
     }
 
     /**
      * Function to simulate browser forward
      */
     public void browserForward() {
-        log("Browser forward");
+        ActionLog.info("Browser forward");
         getDriver().navigate().forward();
     }
 
@@ -174,15 +196,16 @@ public abstract class Page {
      * @param url URL String
      */
     public void goTo(final String url) {
-        log("Navigate to URL " + url);
+        ActionLog.info("Navigate to URL {}", url);
         getDriver().navigate().to(url);
+        AppIdle.install(getDriver());
     }
 
     /**
      * Function to switch to default content
      */
     public void switchToDefault() {
-        log("Switch to default window");
+        ActionLog.info("Switch to default window");
         getDriver().switchTo().defaultContent();
     }
 
@@ -192,7 +215,7 @@ public abstract class Page {
      * @param window window name/id
      */
     public void switchToWindow(final String window) {
-        log("Switch to window " + window);
+        ActionLog.info("Switch to window {}", window);
         getDriver().switchTo().window(window);
     }
 
@@ -203,7 +226,7 @@ public abstract class Page {
      */
     public String getWindowHandle() {
         final String windowHandle = getDriver().getWindowHandle();
-        log("Current window handle is " + windowHandle);
+        ActionLog.debug("Current window handle is {}", windowHandle);
         return windowHandle;
     }
 
@@ -214,7 +237,7 @@ public abstract class Page {
      */
     public Set<String> getWindowHandles() {
         final Set<String> windowHandles = getDriver().getWindowHandles();
-        log("List fo windows " + new ArrayList<>(windowHandles));
+        ActionLog.debug("List fo windows {}", windowHandles);
         return windowHandles;
     }
 
@@ -225,7 +248,7 @@ public abstract class Page {
      */
     public List<String> getWindowHandlesList() {
         final List<String> windowHandles = new ArrayList<>(getDriver().getWindowHandles());
-        log("List fo windows " + windowHandles);
+        ActionLog.debug("List fo windows {}", windowHandles);
         return windowHandles;
     }
 
@@ -243,30 +266,43 @@ public abstract class Page {
      * Method to create wait condition
      *
      * @return {@link WebDriverWait}
+     * @see WaitEngine
      */
     public WebDriverWait waitForCondition() {
-        return new WebDriverWait(getDriver().getWrappedDriver(), Duration.ofSeconds(DEFAULT_WAIT_TIME));
+        return WaitEngine.webDriverWait(getDriver().getWrappedDriver(), Duration.ofSeconds(DEFAULT_WAIT_TIME));
     }
 
     /**
      * Method to create wait condition with given time
      *
-     * @param timeOutInSeconds time out in seconds
+     * @param timeOutInSeconds time out, read as milliseconds despite its name
      * @return {@link WebDriverWait}
+     * @see WaitEngine
+     * @deprecated the time out is read as milliseconds, use {@link #waitForCondition(Duration)}
      */
+    @Deprecated
     public WebDriverWait waitForCondition(final long timeOutInSeconds) {
-        return new WebDriverWait(getDriver().getWrappedDriver(), Duration.ofMillis(timeOutInSeconds));
+        return waitForCondition(Duration.ofMillis(timeOutInSeconds));
     }
 
     /**
-     * Method to create wait condition
+     * Method to create wait condition with given time
+     *
+     * @param timeout time out of the wait
+     * @return {@link WebDriverWait}
+     * @see WaitEngine
+     */
+    public WebDriverWait waitForCondition(final Duration timeout) {
+        return WaitEngine.webDriverWait(getDriver().getWrappedDriver(), timeout);
+    }
+
+    /**
+     * Method to create wait condition, polling adaptively up to the default interval of the {@link WaitEngine}
      *
      * @return {@link FluentWait}
      */
     public FluentWait fluentWait() {
-        return new FluentWait<>(getDriver())
-                .withTimeout(Duration.ofSeconds(DEFAULT_WAIT_TIME))
-                .pollingEvery(Duration.ofSeconds(DEFAULT_POLLING_TIME))
+        return WaitEngine.fluentWait(getDriver(), Duration.ofSeconds(DEFAULT_WAIT_TIME))
                 .ignoring(NoSuchElementException.class);
     }
 
@@ -274,13 +310,11 @@ public abstract class Page {
      * Method to create wait condition with given time
      *
      * @param timeout     time out in seconds
-     * @param pollingTime polling time in seconds
+     * @param pollingTime longest polling time in seconds, see {@link WaitEngine}
      * @return {@link FluentWait}
      */
     public FluentWait fluentWait(final int timeout, final int pollingTime) {
-        return new FluentWait<>(getDriver())
-                .withTimeout(Duration.ofSeconds(timeout))
-                .pollingEvery(Duration.ofSeconds(pollingTime))
+        return WaitEngine.fluentWait(getDriver(), Duration.ofSeconds(timeout), Duration.ofSeconds(pollingTime))
                 .ignoring(NoSuchElementException.class);
     }
 
@@ -332,21 +366,23 @@ public abstract class Page {
     }
 
     /**
-     * Method to scroll to and click page element using JavascriptExecutor
+     * Method to scroll to and click page element once it can take the click, see {@link Actionability}
      *
      * @param by as locator
      */
     protected void scrollAndClick(final By by) {
         try {
-            jsMoveTo(by);
-            click(by);
+            clickWhenActionable(find(by));
         } catch (final StaleElementReferenceException ex) {
-            jsMoveTo(by);
-            click(by);
-            System.out.println("INFO: Had stale element reference with selector = " + by.toString());
+            ActionLog.debug("Had stale element reference with selector = {}", by);
+            clickWhenActionable(find(by));
         }
     }
 
+    private void clickWhenActionable(final WebElement element) {
+        Actionability.perform(getDriver(), element, Actionability.Action.CLICK, Duration.ofSeconds(DEFAULT_WAIT_TIME), element::click);
+    }
+
     /**
      * Method to move to and click page element.
      * actions are not chained to enable the method to work on iOS devices
@@ -450,16 +486,10 @@ public abstract class Page {
      * This will work on all operating systems including iOS and Android
      *
      * @param by as locator
+     * @see ClearingEngine
      */
     protected void clear(final By by) {
-        final WebElement element = find(by);
-        if (isTablet() || isMobile()) {
-            while (!element.getText().isEmpty()) {
-                element.sendKeys(Keys.BACK_SPACE);
-            }
-        } else {
-            element.sendKeys(Keys.CONTROL + "a" + Keys.DELETE);
-        }
+        ClearingEngine.clear(getDriver(), find(by), by, deviceClass());
     }
 
     /**
@@ -467,15 +497,10 @@ public abstract class Page {
      * This will work on all operating systems including iOS and Android
      *
      * @param webElement ExtWebElement as locator
+     * @see ClearingEngine
      */
     protected void clear(final ExtWebElement webElement) {
-        if (isTablet() || isMobile()) {
-            while (!webElement.getValue().isEmpty()) {
-                webElement.sendKeys(Keys.BACK_SPACE);
-            }
-        } else {
-            webElement.sendKeys(Keys.CONTROL + "a" + Keys.DELETE);
-        }
+        ClearingEngine.clear(getDriver(), webElement, deviceClass());
     }
 
     /**
@@ -483,15 +508,10 @@ public abstract class Page {
      * This will work on all operating systems including iOS and Android
      *
      * @param webElement as locator
+     * @see ClearingEngine
      */
     protected void clear(final WebElement webElement) {
-        if (isTablet() || isMobile()) {
-            while (!webElement.getText().isEmpty()) {
-                webElement.sendKeys(Keys.BACK_SPACE);
-            }
-        } else {
-            webElement.sendKeys(Keys.CONTROL + "a" + Keys.DELETE);
-        }
+        ClearingEngine.clear(getDriver(), webElement, deviceClass());
     }
 
     /**
@@ -748,8 +768,7 @@ public abstract class Page {
      * @param expectedCondition to wait for
      */
     protected void until(final Duration duration, final ExpectedCondition<?> expectedCondition) {
-        final Wait<WebDriver> wait = new FluentWait<>(getDriver().getWrappedDriver())
-                .withTimeout(duration)
+        final Wait<WebDriver> wait = WaitEngine.fluentWait(getDriver().getWrappedDriver(), duration)
                 .ignoring(StaleElementReferenceException.class)
                 .ignoring(NoSuchElementException.class);
 
@@ -825,13 +844,33 @@ public abstract class Page {
                 "return  window.localStorage.getItem('" + key + "')").toString();
     }
 
+    /**
+     * Method to get the device class of the current window. The viewport width of the top level window is read once
+     * per window and cached in the {@link DriverContext}, switching windows or resizing through {@link CoreDriver}
+     * reads it again. Inside a frame of another origin only the frame can be measured, which is not cached.
+     *
+     * @return device class of the viewport
+     */
+    public DeviceClass deviceClass() {
+        final DriverContext context = getDriver().getContext();
+        DeviceClass deviceClass = context.getDeviceClass();
+        if (deviceClass == null) {
+            final List<?> viewPort = (List<?>) executeScript(JSVIEWPORT);
+            deviceClass = DeviceClass.of(((Number) viewPort.get(0)).longValue());
+            if (Boolean.TRUE.equals(viewPort.get(1))) {
+                context.setDeviceClass(deviceClass);
+            }
+        }
+        return deviceClass;
+    }
+
     /**
      * Method to verify current device is Mobile
      *
      * @return true if device is Mobile
      */
     public boolean isMobile() {
-        return viewPortWidth() < MOBILE_SCREENWIDTH;
+        return deviceClass() == DeviceClass.MOBILE;
     }
 
     /**
@@ -840,7 +879,7 @@ public abstract class Page {
      * @return true if device is Tablet
      */
     public boolean isTablet() {
-        return (viewPortWidth() >= MOBILE_SCREENWIDTH && viewPortWidth() < TABLET_SCREENWIDTH);
+        return deviceClass() == DeviceClass.TABLET;
     }
 
     /**
@@ -849,19 +888,10 @@ public abstract class Page {
      * @return true if device is Desktop
      */
     public boolean isDesktop() {
-        return (viewPortWidth() >= TABLET_SCREENWIDTH);
+        return deviceClass() == DeviceClass.DESKTOP;
     }
 
 
-    /**
-     * Method to get Browser Viewport Width
-     *
-     * @return view port width
-     */
-    private long viewPortWidth() {
-        return (long) executeScript("return window.innerWidth");
-    }
-
     /**
      * Method to execute Javascript
      *
@@ -908,7 +938,7 @@ public abstract class Page {
      * @param timeInSecs time in seconds
      */
     public void setImplicitTimeout(final long timeInSecs) {
-        getDriver().manage().timeouts().implicitlyWait(Duration.ofMillis(DEFAULT_WAIT_TIME));
+        getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(timeInSecs));
     }
 
     /**
@@ -918,19 +948,51 @@ public abstract class Page {
         getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(DEFAULT_WAIT_TIME));
     }
 
-    public void waitForPageLoad()
-    {
-
-        try
-        {
-            Sleeper.sleep(100);
-            fluentWait().until(driver -> "complete".equalsIgnoreCase((String) getDriver()
-                                                    .executeScript("return document.readyState")));
+    /**
+     * Method to wait for the page to finish loading, on the DevTools load event when available
+     *
+     * @see PageLoadWatcher
+     */
+    public void waitForPageLoad() {
+        if (!PageLoadWatcher.awaitLoad(getDriver(), Duration.ofSeconds(DEFAULT_WAIT_TIME))) {
+            log.error("Timed out waiting for page load after {} seconds", DEFAULT_WAIT_TIME);
         }
-        catch (final Exception e)
-        {
-            log.error("Error waiting for page load", e);
+    }
+
+    /**
+     * Method to wait until the network of the current window is quiet, e.g. after a client side transition. Without
+     * DevTools the wait falls back to the in-page instrumentation of {@link AppIdle}, which only sees {@code fetch} and
+     * {@code XMLHttpRequest} requests.
+     *
+     * @param quietPeriod        time the network must stay quiet
+     * @param maxInflight        number of requests in flight still counted as quiet
+     * @param timeout            time out of the wait
+     * @param ignoredUrlPatterns regular expressions of request URLs not to wait for, e.g. analytics beacons
+     * @return false if the network was still busy at the time out
+     * @see NetworkIdleWatcher
+     */
+    public boolean waitForNetworkIdle(final Duration quietPeriod, final int maxInflight, final Duration timeout,
+                                      final String... ignoredUrlPatterns) {
+        ActionLog.debug("Waiting for network idle, quiet for {} with at most {} requests", quietPeriod, maxInflight);
+        if (!NetworkIdleWatcher.isAvailable(getDriver())) {
+            log.debug("Network requests cannot be tracked in this session, waiting for the app to be idle instead");
+            return AppIdle.await(getDriver(), quietPeriod, maxInflight, timeout, ignoredUrlPatterns);
         }
+        return NetworkIdleWatcher.awaitIdle(getDriver(), quietPeriod, maxInflight, timeout, ignoredUrlPatterns);
     }
 
-}
\ No newline at end of file
+    /**
+     * Method to wait until the application is idle, with no {@code fetch} or {@code XMLHttpRequest} in flight and no
+     * short timer pending, in a single script call working with any browser
+     *
+     * @param quietPeriod        time the application must stay idle
+     * @param timeout            time out of the wait
+     * @param ignoredUrlPatterns regular expressions of request URLs not to wait for, e.g. analytics beacons
+     * @return false if the application was still busy at the time out
+     * @see AppIdle
+     */
+    public boolean waitForAppIdle(final Duration quietPeriod, final Duration timeout, final String... ignoredUrlPatterns) {
+        ActionLog.debug("Waiting for the app to be idle for {}", quietPeriod);
+        return AppIdle.await(getDriver(), quietPeriod, 0, timeout, ignoredUrlPatterns);
+    }
+}
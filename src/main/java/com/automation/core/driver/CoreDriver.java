@@ -1,12 +1,10 @@
 package com.automation.core.driver;
 
+import com.automation.core.utilities.Sleeper;
 import org.openqa.selenium.*;
 import org.openqa.selenium.devtools.DevTools;
-import org.openqa.selenium.devtools.HasDevTools;
-import org.openqa.selenium.devtools.v91.network.Network;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 public class CoreDriver implements WrapsDriver, WebDriver
@@ -27,7 +25,15 @@ public class CoreDriver implements WrapsDriver, WebDriver
 	@Override
 	public void get(final String url)
 	{
-		wrappedDriver.get(url);
+		getContext().pageLoads().arm();
+		try
+		{
+			wrappedDriver.get(url);
+		}
+		finally
+		{
+			getContext().advanceDomEpoch();
+		}
 	}
 
 	@Override
@@ -45,13 +51,28 @@ public class CoreDriver implements WrapsDriver, WebDriver
 	@Override
 	public List<WebElement> findElements(final By by)
 	{
-		return wrappedDriver.findElements(by);
+		final long start = Sleeper.getClock().nanoTime();
+		final List<WebElement> elements = wrappedDriver.findElements(by);
+		if (elements.isEmpty())
+		{
+			TimeoutGovernor.recordFailedLookup(wrappedDriver, start, CoreDriver.class);
+		}
+		return elements;
 	}
 
 	@Override
 	public WebElement findElement(final By by)
 	{
-		return wrappedDriver.findElement(by);
+		final long start = Sleeper.getClock().nanoTime();
+		try
+		{
+			return wrappedDriver.findElement(by);
+		}
+		catch (final NoSuchElementException e)
+		{
+			TimeoutGovernor.recordFailedLookup(wrappedDriver, start, CoreDriver.class);
+			throw e;
+		}
 	}
 
 	@Override
@@ -87,37 +108,45 @@ public class CoreDriver implements WrapsDriver, WebDriver
 	@Override
 	public TargetLocator switchTo()
 	{
-		return wrappedDriver.switchTo();
+		return new DomAwareTargetLocator(wrappedDriver, getContext());
 	}
 
 	@Override
 	public Navigation navigate()
 	{
-		return wrappedDriver.navigate();
+		return new DomAwareNavigation(wrappedDriver.navigate(), getContext());
 	}
 
+	/**
+	 * Method to manage the session, the timeouts set through it are tracked by the {@link TimeoutGovernor}
+	 *
+	 * @return {@link Options} of the wrapped driver
+	 */
 	@Override
 	public Options manage()
 	{
-		return wrappedDriver.manage();
+		return new GovernedOptions(wrappedDriver.manage(), wrappedDriver);
 	}
 
-	public DevTools getDevtools()
+	/**
+	 * Method to get the framework state of this browser session
+	 *
+	 * @return {@link DriverContext} shared with the wrapped driver
+	 */
+	public DriverContext getContext()
 	{
-		if (getWrappedDriver() instanceof HasDevTools)
-		{
-			final HasDevTools driver = (HasDevTools) getWrappedDriver();
-			final DevTools devTools = driver.getDevTools();
-			devTools.createSession();
-			devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+		return DriverContext.of(wrappedDriver);
+	}
 
-			return devTools;
-		}
-		else
-		{
-			throw new IllegalStateException("Given WebDriver subclass does not support dev tools: " + getWrappedDriver().getClass().getName());
-		}
-    }
+	/**
+	 * Method to get the DevTools connection of this session, opened once and shared, see {@link DevToolsSession}
+	 *
+	 * @return DevTools connection with the Network domain enabled
+	 */
+	public DevTools getDevtools()
+	{
+		return DevToolsSession.of(wrappedDriver);
+	}
 
     public Object executeScript(final String script, final Object ... args)
 	{
@@ -211,7 +211,7 @@ public class CoreWebDriver extends CoreDriver{
                 driver.manage().window().maximize();
             }
         }
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(DEFAULT_WAIT_TIME));
+        TimeoutGovernor.implicitlyWait(driver, Duration.ofSeconds(DEFAULT_WAIT_TIME));
         Runtime.getRuntime().addShutdownHook(new Thread(driver::quit));
         return driver;
     }
@@ -0,0 +1,101 @@
+package com.automation.core.driver;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v91.network.Network;
+import org.openqa.selenium.devtools.v91.network.model.ResourceType;
+import org.openqa.selenium.devtools.v91.page.Page;
+
+import java.util.Optional;
+
+/**
+ * DevTools connection of a browser session, opened once and kept in its {@link DriverContext}.
+ * <p>
+ * The connection is attached to the window the session was switched to when it was opened and enables the
+ * {@code Network} and {@code Page} domains. Main frame navigations, load events and stops are fed to the
+ * {@link PageLoadWatcher} of the session, requests sent and finished to its {@link NetworkIdleWatcher}.
+ */
+@Slf4j
+public final class DevToolsSession {
+
+    private DevToolsSession() {
+    }
+
+    /**
+     * Method to get the DevTools connection of a session, opening it on first use
+     *
+     * @param driver {@link WebDriver}, wrapped or not
+     * @return DevTools connection
+     * @throws IllegalStateException if the driver does not support DevTools
+     */
+    public static DevTools of(final WebDriver driver) {
+        final DriverContext context = DriverContext.of(driver);
+        final WebDriver raw = DriverContext.unwrap(driver);
+        if (!(raw instanceof HasDevTools)) {
+            throw new IllegalStateException("Given WebDriver subclass does not support dev tools: " + raw.getClass().getName());
+        }
+        synchronized (context) {
+            DevTools devTools = context.getDevTools();
+            if (devTools == null) {
+                devTools = open((HasDevTools) raw, context);
+                context.setDevTools(devTools);
+            }
+            return devTools;
+        }
+    }
+
+    /**
+     * Method to get the DevTools connection of a session when it can observe the current window
+     *
+     * @param driver {@link WebDriver}, wrapped or not
+     * @return DevTools connection, null if the driver does not support DevTools, failed to connect or the session was
+     * switched to another window than the one the connection is attached to
+     */
+    public static DevTools find(final WebDriver driver) {
+        final DriverContext context = DriverContext.of(driver);
+        if (!context.isDevToolsSupported() || !(DriverContext.unwrap(driver) instanceof HasDevTools)) {
+            return null;
+        }
+        try {
+            final DevTools devTools = of(driver);
+            return context.isDevToolsWindow() ? devTools : null;
+        } catch (final RuntimeException e) {
+            log.debug("DevTools are not available in this session: {}", e.getMessage());
+            context.disableDevTools();
+            return null;
+        }
+    }
+
+    private static DevTools open(final HasDevTools driver, final DriverContext context) {
+        final DevTools devTools = driver.getDevTools();
+        devTools.createSession();
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+        devTools.send(Page.enable());
+        final String mainFrame = devTools.send(Page.getFrameTree()).getFrame().getId().toString();
+        final PageLoadState pageLoads = context.pageLoads();
+        final NetworkRequests requests = context.networkRequests();
+        devTools.addListener(Page.frameStartedLoading(), frame -> {
+            if (mainFrame.equals(frame.toString())) {
+                pageLoads.started();
+                requests.navigated();
+            }
+        });
+        devTools.addListener(Page.loadEventFired(), time -> pageLoads.loaded());
+        devTools.addListener(Page.frameStoppedLoading(), frame -> {
+            if (mainFrame.equals(frame.toString())) {
+                pageLoads.loaded();
+            }
+        });
+        devTools.addListener(Network.requestWillBeSent(), sent -> {
+            final Optional<ResourceType> type = sent.getType();
+            if (!type.isPresent() || (type.get() != ResourceType.EVENTSOURCE && type.get() != ResourceType.WEBSOCKET)) {
+                requests.sent(sent.getRequestId().toString(), sent.getRequest().getUrl());
+            }
+        });
+        devTools.addListener(Network.loadingFinished(), finished -> requests.done(finished.getRequestId().toString()));
+        devTools.addListener(Network.loadingFailed(), failed -> requests.done(failed.getRequestId().toString()));
+        return devTools;
+    }
+}
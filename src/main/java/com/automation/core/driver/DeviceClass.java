@@ -0,0 +1,35 @@
+package com.automation.core.driver;
+
+/**
+ * Class of device a page is laid out for, derived from the width of the browser viewport
+ */
+public enum DeviceClass {
+    /**
+     * viewport narrower than 768 pixels
+     */
+    MOBILE,
+    /**
+     * viewport from 768 up to 1024 pixels
+     */
+    TABLET,
+    /**
+     * viewport of 1025 pixels and wider
+     */
+    DESKTOP;
+
+    private static final int MOBILE_SCREENWIDTH = 768;
+    private static final int TABLET_SCREENWIDTH = 1025;
+
+    /**
+     * Method to classify a viewport
+     *
+     * @param viewPortWidth width of the viewport in CSS pixels, {@code window.innerWidth}
+     * @return device class of the viewport
+     */
+    public static DeviceClass of(final long viewPortWidth) {
+        if (viewPortWidth < MOBILE_SCREENWIDTH) {
+            return MOBILE;
+        }
+        return viewPortWidth < TABLET_SCREENWIDTH ? TABLET : DESKTOP;
+    }
+}
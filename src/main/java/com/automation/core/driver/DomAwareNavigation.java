@@ -0,0 +1,70 @@
+package com.automation.core.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.net.URL;
+
+/**
+ * {@link WebDriver.Navigation} advancing the DOM epoch of its {@link DriverContext} on every navigation and arming
+ * the {@link PageLoadWatcher} before it
+ */
+class DomAwareNavigation implements WebDriver.Navigation {
+
+    private final WebDriver.Navigation navigation;
+    private final DriverContext context;
+
+    DomAwareNavigation(final WebDriver.Navigation navigation, final DriverContext context) {
+        this.navigation = navigation;
+        this.context = context;
+    }
+
+    @Override
+    public void back() {
+        context.pageLoads().arm();
+        try {
+            navigation.back();
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+
+    @Override
+    public void forward() {
+        context.pageLoads().arm();
+        try {
+            navigation.forward();
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+
+    @Override
+    public void to(final String url) {
+        context.pageLoads().arm();
+        try {
+            navigation.to(url);
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+
+    @Override
+    public void to(final URL url) {
+        context.pageLoads().arm();
+        try {
+            navigation.to(url);
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+
+    @Override
+    public void refresh() {
+        context.pageLoads().arm();
+        try {
+            navigation.refresh();
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.automation.core.driver;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+
+/**
+ * {@link WebDriver.TargetLocator} advancing the DOM epoch of its {@link DriverContext} on every window or frame switch,
+ * and telling it the handle of the window switched to, which the {@link DeviceClass} and the DevTools connection
+ * apply to
+ */
+class DomAwareTargetLocator implements WebDriver.TargetLocator {
+
+    private final WebDriver driver;
+    private final WebDriver.TargetLocator targetLocator;
+    private final DriverContext context;
+
+    DomAwareTargetLocator(final WebDriver driver, final DriverContext context) {
+        this.driver = driver;
+        this.targetLocator = driver.switchTo();
+        this.context = context;
+    }
+
+    @Override
+    public WebDriver frame(final int index) {
+        try {
+            return targetLocator.frame(index);
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+
+    @Override
+    public WebDriver frame(final String nameOrId) {
+        try {
+            return targetLocator.frame(nameOrId);
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+
+    @Override
+    public WebDriver frame(final WebElement frameElement) {
+        try {
+            return targetLocator.frame(frameElement);
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+
+    @Override
+    public WebDriver parentFrame() {
+        try {
+            return targetLocator.parentFrame();
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+
+    @Override
+    public WebDriver window(final String nameOrHandle) {
+        if (!context.isWindowKnown()) {
+            context.identifyWindow(windowHandle());
+        }
+        try {
+            return targetLocator.window(nameOrHandle);
+        } finally {
+            context.advanceDomEpoch();
+            context.switchedWindow(windowHandle());
+        }
+    }
+
+    @Override
+    public WebDriver newWindow(final WindowType typeHint) {
+        if (!context.isWindowKnown()) {
+            context.identifyWindow(windowHandle());
+        }
+        try {
+            return targetLocator.newWindow(typeHint);
+        } finally {
+            context.advanceDomEpoch();
+            context.switchedWindow(windowHandle());
+        }
+    }
+
+    @Override
+    public WebDriver defaultContent() {
+        try {
+            return targetLocator.defaultContent();
+        } finally {
+            context.advanceDomEpoch();
+        }
+    }
+
+    /**
+     * @return handle of the current window, null if the session cannot tell it, e.g. after the window was closed
+     */
+    private String windowHandle() {
+        try {
+            return driver.getWindowHandle();
+        } catch (final WebDriverException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public WebElement activeElement() {
+        return targetLocator.activeElement();
+    }
+
+    @Override
+    public Alert alert() {
+        return targetLocator.alert();
+    }
+}
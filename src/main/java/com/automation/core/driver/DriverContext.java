@@ -0,0 +1,292 @@
+package com.automation.core.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Framework state kept per browser session. Wrapping drivers such as {@link CoreDriver} share the context
+ * of the driver they wrap, so page objects bound to the raw driver and code using the {@link CoreDriver}
+ * see the same state.
+ */
+public final class DriverContext {
+
+    private static final Map<WebDriver, DriverContext> CONTEXTS = new WeakHashMap<>();
+
+    private final AtomicLong domEpoch = new AtomicLong();
+    private volatile Duration scriptTimeout;
+    private volatile boolean scriptWaitsUnsupported;
+    private volatile boolean keyActionsUnsupported;
+    private volatile Duration implicitWait;
+    private final AtomicInteger implicitWaitSuspensions = new AtomicInteger();
+    private final Map<String, DeviceClass> deviceClasses = new ConcurrentHashMap<>();
+    private final AtomicLong newWindows = new AtomicLong();
+    private volatile String window = "";
+    private volatile boolean windowKnown;
+    private final PageLoadState pageLoads = new PageLoadState();
+    private final NetworkRequests networkRequests = new NetworkRequests();
+    private volatile DevTools devTools;
+    private volatile String devToolsWindow;
+    private volatile boolean devToolsUnsupported;
+
+    private DriverContext() {
+    }
+
+    /**
+     * Method to get the context of a driver
+     *
+     * @param driver {@link WebDriver}, wrapped or not
+     * @return context of the underlying driver
+     */
+    public static DriverContext of(final WebDriver driver) {
+        final WebDriver key = unwrap(driver);
+        synchronized (CONTEXTS) {
+            return CONTEXTS.computeIfAbsent(key, k -> new DriverContext());
+        }
+    }
+
+    static WebDriver unwrap(final WebDriver driver) {
+        WebDriver current = driver;
+        while (current instanceof WrapsDriver && ((WrapsDriver) current).getWrappedDriver() != null
+               && ((WrapsDriver) current).getWrappedDriver() != current) {
+            current = ((WrapsDriver) current).getWrappedDriver();
+        }
+        return current;
+    }
+
+    /**
+     * Method to find the driver of a wrapping chain implementing a capability, such as
+     * {@link org.openqa.selenium.interactions.Interactive}
+     *
+     * @param driver     {@link WebDriver}, wrapped or not
+     * @param capability interface the driver must implement
+     * @param <T>        type of the capability
+     * @return the first driver of the chain implementing it, or null if none does
+     */
+    public static <T> T unwrapTo(final WebDriver driver, final Class<T> capability) {
+        WebDriver current = driver;
+        while (!capability.isInstance(current) && current instanceof WrapsDriver
+               && ((WrapsDriver) current).getWrappedDriver() != current) {
+            current = ((WrapsDriver) current).getWrappedDriver();
+        }
+        return capability.isInstance(current) ? capability.cast(current) : null;
+    }
+
+    /**
+     * Method to find the script executor of a driver, looking through the wrapping drivers
+     *
+     * @param driver {@link WebDriver}, wrapped or not
+     * @return the first driver of the chain running scripts, or null if none does
+     */
+    public static JavascriptExecutor executor(final WebDriver driver) {
+        return unwrapTo(driver, JavascriptExecutor.class);
+    }
+
+    /**
+     * Method to get the DOM epoch, a counter moved forward whenever the document or browsing context changes
+     * (navigation, refresh, window or frame switch). Elements resolved in an older epoch must not be reused.
+     *
+     * @return current DOM epoch
+     */
+    public long domEpoch() {
+        return domEpoch.get();
+    }
+
+    /**
+     * Method to mark the current document as replaced
+     */
+    public void advanceDomEpoch() {
+        domEpoch.incrementAndGet();
+    }
+
+    /**
+     * Method to get the script timeout last read or set by the framework
+     *
+     * @return script timeout or null if not known yet
+     */
+    public Duration getScriptTimeout() {
+        return scriptTimeout;
+    }
+
+    /**
+     * Method to record the script timeout of the session
+     *
+     * @param scriptTimeout script timeout in use
+     */
+    public void setScriptTimeout(final Duration scriptTimeout) {
+        this.scriptTimeout = scriptTimeout;
+    }
+
+    /**
+     * @return false if an asynchronous script wait failed for reasons other than the condition, e.g. in a native
+     * app context, and the polling waits are used instead
+     */
+    public boolean isScriptWaitsSupported() {
+        return !scriptWaitsUnsupported;
+    }
+
+    /**
+     * Method to stop using asynchronous script waits for this session
+     */
+    public void disableScriptWaits() {
+        scriptWaitsUnsupported = true;
+    }
+
+    /**
+     * @return false if the session rejected W3C key actions, e.g. in a native app context, and keys are sent one
+     * command at a time instead
+     */
+    public boolean isKeyActionsSupported() {
+        return !keyActionsUnsupported;
+    }
+
+    /**
+     * Method to stop using W3C key actions for this session
+     */
+    public void disableKeyActions() {
+        keyActionsUnsupported = true;
+    }
+
+    /**
+     * Method to get the implicit wait last read or set by the framework
+     *
+     * @return implicit wait or null if not known yet
+     * @see TimeoutGovernor
+     */
+    public Duration getImplicitWait() {
+        return implicitWait;
+    }
+
+    /**
+     * Method to record the implicit wait of the session
+     *
+     * @param implicitWait implicit wait in use outside of suspensions
+     */
+    public void setImplicitWait(final Duration implicitWait) {
+        this.implicitWait = implicitWait;
+    }
+
+    /**
+     * @return true while the implicit wait is zeroed by {@link TimeoutGovernor#withoutImplicitWait}
+     */
+    public boolean isImplicitWaitSuspended() {
+        return implicitWaitSuspensions.get() > 0;
+    }
+
+    int suspendImplicitWait() {
+        return implicitWaitSuspensions.incrementAndGet();
+    }
+
+    int resumeImplicitWait() {
+        return implicitWaitSuspensions.decrementAndGet();
+    }
+
+    /**
+     * Method to get the device class of the window the session is switched to, as cached by the framework
+     *
+     * @return device class or null if not known yet
+     */
+    public DeviceClass getDeviceClass() {
+        return deviceClasses.get(window);
+    }
+
+    /**
+     * Method to record the device class of the window the session is switched to
+     *
+     * @param deviceClass device class of the current viewport
+     */
+    public void setDeviceClass(final DeviceClass deviceClass) {
+        deviceClasses.put(window, deviceClass);
+    }
+
+    /**
+     * Method to drop the device class of the current window, e.g. after it was resized
+     */
+    public void invalidateDeviceClass() {
+        deviceClasses.remove(window);
+    }
+
+    /**
+     * Windows are told apart by their handle, read once per switch. A window whose handle could not be read gets a
+     * key of its own, so nothing cached for another window applies to it.
+     */
+    synchronized void switchedWindow(final String handle) {
+        window = handle == null ? "unknown window " + newWindows.incrementAndGet() : handle;
+        windowKnown = handle != null;
+    }
+
+    /**
+     * @return false while the session is still in the window it started in and its handle was not read
+     */
+    boolean isWindowKnown() {
+        return windowKnown;
+    }
+
+    /**
+     * Method to name the window the session started in by its handle, before switching away from it, keeping what
+     * was cached for it
+     *
+     * @param handle handle of the current window, null if unknown
+     */
+    synchronized void identifyWindow(final String handle) {
+        if (windowKnown || handle == null) {
+            return;
+        }
+        final DeviceClass deviceClass = deviceClasses.remove(window);
+        if (deviceClass != null) {
+            deviceClasses.put(handle, deviceClass);
+        }
+        if (window.equals(devToolsWindow)) {
+            devToolsWindow = handle;
+        }
+        window = handle;
+        windowKnown = true;
+    }
+
+    /**
+     * @return false if the DevTools connection could not be opened, the waits poll the page instead
+     * @see DevToolsSession
+     */
+    public boolean isDevToolsSupported() {
+        return !devToolsUnsupported;
+    }
+
+    /**
+     * Method to stop using DevTools for this session
+     */
+    public void disableDevTools() {
+        devToolsUnsupported = true;
+    }
+
+    DevTools getDevTools() {
+        return devTools;
+    }
+
+    synchronized void setDevTools(final DevTools devTools) {
+        this.devTools = devTools;
+        devToolsWindow = window;
+    }
+
+    /**
+     * @return true if the DevTools connection is attached to the window the session is switched to
+     */
+    boolean isDevToolsWindow() {
+        return window.equals(devToolsWindow);
+    }
+
+    PageLoadState pageLoads() {
+        return pageLoads;
+    }
+
+    NetworkRequests networkRequests() {
+        return networkRequests;
+    }
+}
@@ -0,0 +1,72 @@
+package com.automation.core.driver;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.Logs;
+
+import java.util.Set;
+
+/**
+ * {@link WebDriver.Options} whose timeouts are tracked in the {@link DriverContext}, see {@link TimeoutGovernor}, and
+ * whose window changes drop the cached {@link DeviceClass}
+ */
+class GovernedOptions implements WebDriver.Options {
+
+    private final WebDriver.Options options;
+    private final WebDriver driver;
+
+    GovernedOptions(final WebDriver.Options options, final WebDriver driver) {
+        this.options = options;
+        this.driver = driver;
+    }
+
+    @Override
+    public void addCookie(final Cookie cookie) {
+        options.addCookie(cookie);
+    }
+
+    @Override
+    public void deleteCookieNamed(final String name) {
+        options.deleteCookieNamed(name);
+    }
+
+    @Override
+    public void deleteCookie(final Cookie cookie) {
+        options.deleteCookie(cookie);
+    }
+
+    @Override
+    public void deleteAllCookies() {
+        options.deleteAllCookies();
+    }
+
+    @Override
+    public Set<Cookie> getCookies() {
+        return options.getCookies();
+    }
+
+    @Override
+    public Cookie getCookieNamed(final String name) {
+        return options.getCookieNamed(name);
+    }
+
+    @Override
+    public WebDriver.Timeouts timeouts() {
+        return new GovernedTimeouts(options.timeouts(), driver);
+    }
+
+    @Override
+    public WebDriver.ImeHandler ime() {
+        return options.ime();
+    }
+
+    @Override
+    public WebDriver.Window window() {
+        return new GovernedWindow(options.window(), DriverContext.of(driver));
+    }
+
+    @Override
+    public Logs logs() {
+        return options.logs();
+    }
+}
@@ -0,0 +1,71 @@
+package com.automation.core.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WebDriver.Timeouts} recording the implicit wait and script timeout in the {@link DriverContext}.
+ * An implicit wait set while it is suspended by {@link TimeoutGovernor} takes effect when the suspension ends.
+ */
+class GovernedTimeouts implements WebDriver.Timeouts {
+
+    private final WebDriver.Timeouts timeouts;
+    private final WebDriver driver;
+
+    GovernedTimeouts(final WebDriver.Timeouts timeouts, final WebDriver driver) {
+        this.timeouts = timeouts;
+        this.driver = driver;
+    }
+
+    @Override
+    public WebDriver.Timeouts implicitlyWait(final long time, final TimeUnit unit) {
+        return implicitlyWait(Duration.ofNanos(unit.toNanos(time)));
+    }
+
+    @Override
+    public WebDriver.Timeouts implicitlyWait(final Duration duration) {
+        TimeoutGovernor.implicitlyWait(driver, duration);
+        return this;
+    }
+
+    @Override
+    public Duration getImplicitWaitTimeout() {
+        return TimeoutGovernor.getImplicitWait(driver);
+    }
+
+    @Override
+    public WebDriver.Timeouts setScriptTimeout(final long time, final TimeUnit unit) {
+        return setScriptTimeout(Duration.ofNanos(unit.toNanos(time)));
+    }
+
+    @Override
+    public WebDriver.Timeouts setScriptTimeout(final Duration duration) {
+        timeouts.setScriptTimeout(duration);
+        DriverContext.of(driver).setScriptTimeout(duration);
+        return this;
+    }
+
+    @Override
+    public Duration getScriptTimeout() {
+        return timeouts.getScriptTimeout();
+    }
+
+    @Override
+    public WebDriver.Timeouts pageLoadTimeout(final long time, final TimeUnit unit) {
+        timeouts.pageLoadTimeout(time, unit);
+        return this;
+    }
+
+    @Override
+    public WebDriver.Timeouts pageLoadTimeout(final Duration duration) {
+        timeouts.pageLoadTimeout(duration);
+        return this;
+    }
+
+    @Override
+    public Duration getPageLoadTimeout() {
+        return timeouts.getPageLoadTimeout();
+    }
+}
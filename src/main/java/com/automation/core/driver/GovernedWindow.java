@@ -0,0 +1,70 @@
+package com.automation.core.driver;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * {@link WebDriver.Window} dropping the {@link DeviceClass} cached for the current window whenever its size changes
+ */
+class GovernedWindow implements WebDriver.Window {
+
+    private final WebDriver.Window window;
+    private final DriverContext context;
+
+    GovernedWindow(final WebDriver.Window window, final DriverContext context) {
+        this.window = window;
+        this.context = context;
+    }
+
+    @Override
+    public Dimension getSize() {
+        return window.getSize();
+    }
+
+    @Override
+    public void setSize(final Dimension targetSize) {
+        try {
+            window.setSize(targetSize);
+        } finally {
+            context.invalidateDeviceClass();
+        }
+    }
+
+    @Override
+    public Point getPosition() {
+        return window.getPosition();
+    }
+
+    @Override
+    public void setPosition(final Point targetPosition) {
+        window.setPosition(targetPosition);
+    }
+
+    @Override
+    public void maximize() {
+        try {
+            window.maximize();
+        } finally {
+            context.invalidateDeviceClass();
+        }
+    }
+
+    @Override
+    public void minimize() {
+        try {
+            window.minimize();
+        } finally {
+            context.invalidateDeviceClass();
+        }
+    }
+
+    @Override
+    public void fullscreen() {
+        try {
+            window.fullscreen();
+        } finally {
+            context.invalidateDeviceClass();
+        }
+    }
+}
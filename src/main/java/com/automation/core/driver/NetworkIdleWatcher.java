@@ -0,0 +1,87 @@
+package com.automation.core.driver;
+
+import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.clock.Clock;
+import com.automation.core.utilities.metrics.CallSite;
+import com.automation.core.utilities.metrics.WaitAccounting;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Waits for the network of the current window to go quiet, e.g. after a client side transition of a single page
+ * application where {@code document.readyState} stays {@code complete}.
+ * <p>
+ * Requests are tracked from the {@code Network} events of the {@link DevToolsSession}, from the moment the connection
+ * is opened, and forgotten when the main frame navigates. Event streams and web sockets never finish and are not
+ * tracked. The wait checks the requests every 10 millis of {@link Sleeper#getClock()} and is reported in
+ * {@link WaitAccounting}.
+ */
+public final class NetworkIdleWatcher {
+
+    private static final long POLL_MILLIS = 10;
+
+    private NetworkIdleWatcher() {
+    }
+
+    /**
+     * @param driver {@link WebDriver}, wrapped or not
+     * @return true if the requests of the current window can be tracked
+     */
+    public static boolean isAvailable(final WebDriver driver) {
+        return DevToolsSession.find(driver) != null;
+    }
+
+    /**
+     * Method to wait until at most {@code maxInflight} requests are in flight and none was sent or finished for the
+     * whole quiet period
+     *
+     * @param driver             {@link WebDriver}, wrapped or not
+     * @param quietPeriod        time the network must stay quiet
+     * @param maxInflight        number of requests in flight still counted as quiet, e.g. 0 or 2
+     * @param timeout            time out of the wait
+     * @param ignoredUrlPatterns regular expressions of request URLs not to wait for, e.g. analytics beacons
+     * @return false if the network was still busy at the time out
+     * @throws IllegalStateException if the requests cannot be tracked, see {@link #isAvailable(WebDriver)}
+     */
+    public static boolean awaitIdle(final WebDriver driver, final Duration quietPeriod, final int maxInflight,
+                                    final Duration timeout, final String... ignoredUrlPatterns) {
+        if (!isAvailable(driver)) {
+            throw new IllegalStateException("Network requests cannot be tracked in this session");
+        }
+        final Pattern[] ignored = new Pattern[ignoredUrlPatterns.length];
+        for (int index = 0; index < ignored.length; index++) {
+            ignored[index] = Pattern.compile(ignoredUrlPatterns[index]);
+        }
+        final NetworkRequests requests = DriverContext.of(driver).networkRequests();
+        final Clock clock = Sleeper.getClock();
+        final long start = clock.nanoTime();
+        final long deadline = start + timeout.toNanos();
+        final NetworkRequests.Activity activity = requests.watch(ignored);
+        int polls = 0;
+        try {
+            while (true) {
+                final long now = clock.nanoTime();
+                if (requests.isQuiet(activity, maxInflight, now - quietPeriod.toNanos())) {
+                    record(start, polls, false);
+                    return true;
+                }
+                if (now >= deadline || Thread.currentThread().isInterrupted()) {
+                    record(start, polls, true);
+                    return false;
+                }
+                clock.sleep(Math.min(POLL_MILLIS, TimeUnit.NANOSECONDS.toMillis(deadline - now) + 1));
+                polls++;
+            }
+        } finally {
+            requests.unwatch(activity);
+        }
+    }
+
+    private static void record(final long start, final int polls, final boolean timedOut) {
+        final long millis = TimeUnit.NANOSECONDS.toMillis(Sleeper.getClock().nanoTime() - start);
+        WaitAccounting.record(CallSite.describe(NetworkIdleWatcher.class), millis, polls, timedOut);
+    }
+}
@@ -0,0 +1,121 @@
+package com.automation.core.driver;
+
+import com.automation.core.utilities.Sleeper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Requests in flight in the window of a session as reported by DevTools, see {@link NetworkIdleWatcher}.
+ * <p>
+ * Each wait registers an {@link Activity} which takes the {@link Sleeper#getClock()} time of the last request sent
+ * or finished that it does not ignore, so a request starting and finishing between two checks still breaks the quiet
+ * period. At most 1000 requests are tracked; requests sent beyond that are not, until a main frame navigation starts
+ * over with an empty table.
+ */
+final class NetworkRequests {
+
+    private static final int MAX_TRACKED = 1000;
+
+    private final Map<String, String> inflight = new HashMap<>();
+    private final List<Activity> activities = new ArrayList<>();
+
+    /**
+     * Time of the last request sent or finished, as seen by one wait
+     */
+    static final class Activity {
+
+        private final Pattern[] ignored;
+        private long last;
+
+        private Activity(final Pattern[] ignored, final long since) {
+            this.ignored = ignored;
+            this.last = since;
+        }
+    }
+
+    synchronized void sent(final String requestId, final String url) {
+        if (inflight.size() < MAX_TRACKED || inflight.containsKey(requestId)) {
+            inflight.put(requestId, url);
+        }
+        touch(url);
+    }
+
+    synchronized void done(final String requestId) {
+        touch(inflight.remove(requestId));
+    }
+
+    /**
+     * The main frame started loading a new document, the requests of the previous one will not be reported finished
+     */
+    synchronized void navigated() {
+        inflight.clear();
+        touch(null);
+    }
+
+    /**
+     * Method to start following the requests for a wait
+     *
+     * @param ignored patterns of request URLs the wait does not care about
+     * @return activity to pass to {@link #isQuiet(Activity, int, long)} and {@link #unwatch(Activity)}
+     */
+    synchronized Activity watch(final Pattern[] ignored) {
+        final Activity activity = new Activity(ignored, Sleeper.getClock().nanoTime());
+        activities.add(activity);
+        return activity;
+    }
+
+    synchronized void unwatch(final Activity activity) {
+        activities.remove(activity);
+    }
+
+    /**
+     * @param activity    activity of the wait
+     * @param maxInflight number of requests in flight still counted as quiet
+     * @param quietSince  clock time in nanos since which nothing must have happened
+     * @return true if at most {@code maxInflight} requests are in flight and none was sent or finished since then
+     */
+    synchronized boolean isQuiet(final Activity activity, final int maxInflight, final long quietSince) {
+        return activity.last <= quietSince && count(activity.ignored) <= maxInflight;
+    }
+
+    /**
+     * Moves the activity of the waits not ignoring the URL, every wait for an unknown URL
+     */
+    private void touch(final String url) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        final long now = Sleeper.getClock().nanoTime();
+        for (final Activity activity : activities) {
+            if (url == null || !isIgnored(url, activity.ignored)) {
+                activity.last = now;
+            }
+        }
+    }
+
+    private int count(final Pattern[] ignored) {
+        if (ignored.length == 0) {
+            return inflight.size();
+        }
+        int count = 0;
+        for (final String url : inflight.values()) {
+            if (!isIgnored(url, ignored)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isIgnored(final String url, final Pattern[] ignored) {
+        for (final Pattern pattern : ignored) {
+            if (pattern.matcher(url).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+package com.automation.core.driver;
+
+/**
+ * Navigations of the main frame of a session as reported by DevTools, see {@link PageLoadWatcher}
+ */
+final class PageLoadState {
+
+    private long started;
+    private long armed = -1;
+    private boolean loading;
+
+    synchronized void started() {
+        started++;
+        loading = true;
+    }
+
+    /**
+     * The main frame fired its load event or stopped loading, e.g. after a navigation which was aborted, failed or
+     * replaced by another one
+     */
+    synchronized void loaded() {
+        loading = false;
+    }
+
+    /**
+     * Marks a navigation about to be sent, the next wait returns once a navigation started since then has loaded,
+     * at once if it loaded before the wait started
+     */
+    synchronized void arm() {
+        armed = started;
+    }
+
+    /**
+     * Method to start a wait, taking the armed navigation if any
+     *
+     * @return navigations started before the one waited for, negative if no navigation is armed
+     */
+    synchronized long takeArmed() {
+        final long baseline = armed;
+        armed = -1;
+        return baseline;
+    }
+
+    /**
+     * @return navigations of the main frame started so far
+     */
+    synchronized long navigations() {
+        return started;
+    }
+
+    /**
+     * Method to tell whether a wait is over
+     *
+     * @param baseline  navigations started before the one waited for
+     * @param graceOver true once no navigation is expected to start anymore, always false for an armed navigation
+     * @return true if nothing is loading and a navigation after the baseline loaded, or none started in time
+     */
+    synchronized boolean isSettled(final long baseline, final boolean graceOver) {
+        return !loading && (started > baseline || graceOver);
+    }
+}
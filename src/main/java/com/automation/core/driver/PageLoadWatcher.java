@@ -0,0 +1,119 @@
+package com.automation.core.driver;
+
+import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.clock.Clock;
+import com.automation.core.utilities.metrics.CallSite;
+import com.automation.core.utilities.metrics.WaitAccounting;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for the page of a session to finish loading.
+ * <p>
+ * With DevTools, enabled with {@code core.wait.devtools} (default true) on drivers supporting it, the wait follows
+ * the main frame navigations and {@code Page.loadEventFired} events of the {@link DevToolsSession} and returns as
+ * soon as the load event fired, or the main frame stopped loading without one ({@code Page.frameStoppedLoading}).
+ * Navigations through {@link CoreDriver} arm the wait, so a wait following them needs no grace period: it returns
+ * once that navigation loaded, at once if it already had. A wait following an action which may navigate, e.g. a
+ * click, gives the navigation 100 millis to start.
+ * <p>
+ * Without DevTools the wait polls {@code document.readyState} every 50 millis after the same grace period.
+ * <p>
+ * Both waits take their time from {@link Sleeper#getClock()}, the DevTools events are checked every 10 millis, and
+ * are reported in {@link WaitAccounting}.
+ */
+@Slf4j
+public final class PageLoadWatcher {
+
+    private static final boolean DEVTOOLS = Boolean.parseBoolean(System.getProperty("core.wait.devtools", "true"));
+    private static final long GRACE_MILLIS = 100;
+    private static final long POLL_MILLIS = 50;
+    private static final long EVENT_POLL_MILLIS = 10;
+
+    private PageLoadWatcher() {
+    }
+
+    /**
+     * Method to wait for the page to finish loading
+     *
+     * @param driver  {@link WebDriver}, wrapped or not
+     * @param timeout time out of the wait
+     * @return false if the page was still loading at the time out
+     */
+    public static boolean awaitLoad(final WebDriver driver, final Duration timeout) {
+        if (DEVTOOLS && DevToolsSession.find(driver) != null) {
+            return awaitEvents(DriverContext.of(driver).pageLoads(), timeout);
+        }
+        return pollReadyState(driver, timeout);
+    }
+
+    /**
+     * Method to wait on the navigations reported by DevTools. An armed navigation is waited for without a grace
+     * period until it started and loaded, otherwise a navigation gets the grace period to start.
+     *
+     * @param pageLoads navigations of the session
+     * @param timeout   time out of the wait
+     * @return false if the page was still loading at the time out
+     */
+    static boolean awaitEvents(final PageLoadState pageLoads, final Duration timeout) {
+        final Clock clock = Sleeper.getClock();
+        final long start = clock.nanoTime();
+        final long deadline = start + timeout.toNanos();
+        final long armed = pageLoads.takeArmed();
+        final long baseline = armed >= 0 ? armed : pageLoads.navigations();
+        final long graceEnd = start + TimeUnit.MILLISECONDS.toNanos(GRACE_MILLIS);
+        int polls = 0;
+        while (true) {
+            final long now = clock.nanoTime();
+            if (pageLoads.isSettled(baseline, armed < 0 && now >= graceEnd)) {
+                record(start, polls, false);
+                return true;
+            }
+            if (now >= deadline || Thread.currentThread().isInterrupted()) {
+                record(start, polls, true);
+                return false;
+            }
+            clock.sleep(Math.min(EVENT_POLL_MILLIS, TimeUnit.NANOSECONDS.toMillis(deadline - now) + 1));
+            polls++;
+        }
+    }
+
+    private static boolean pollReadyState(final WebDriver driver, final Duration timeout) {
+        final JavascriptExecutor executor = DriverContext.executor(driver);
+        if (executor == null) {
+            return true;
+        }
+        final Clock clock = Sleeper.getClock();
+        final long start = clock.nanoTime();
+        final long deadline = start + timeout.toNanos();
+        clock.sleep(GRACE_MILLIS);
+        int polls = 1;
+        while (true) {
+            try {
+                if ("complete".equals(executor.executeScript("return document.readyState"))) {
+                    record(start, polls, false);
+                    return true;
+                }
+            } catch (final WebDriverException e) {
+                log.debug("Page is not ready to run scripts yet: {}", e.getMessage());
+            }
+            final long now = clock.nanoTime();
+            if (now >= deadline || Thread.currentThread().isInterrupted()) {
+                record(start, polls, true);
+                return false;
+            }
+            clock.sleep(Math.min(POLL_MILLIS, TimeUnit.NANOSECONDS.toMillis(deadline - now) + 1));
+            polls++;
+        }
+    }
+
+    private static void record(final long start, final int polls, final boolean timedOut) {
+        final long millis = TimeUnit.NANOSECONDS.toMillis(Sleeper.getClock().nanoTime() - start);
+        WaitAccounting.record(CallSite.describe(PageLoadWatcher.class), millis, polls, timedOut);
+    }
+}
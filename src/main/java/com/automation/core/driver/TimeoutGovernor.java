@@ -0,0 +1,127 @@
+package com.automation.core.driver;
+
+import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.metrics.CallSite;
+import com.automation.core.utilities.metrics.WaitAccounting;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the implicit wait of a session from adding up with the explicit waits and absence checks of the framework.
+ * <p>
+ * The implicit wait set on the driver, e.g. the default of 15 seconds, applies to every element lookup. Inside an
+ * explicit wait a missing element would block each poll for the whole implicit wait, and a check whether an element
+ * is present would take the implicit wait to say no. {@link #withoutImplicitWait(WebDriver, Supplier)} zeroes the
+ * implicit wait for such a block and restores it afterwards; nested blocks share the outer suspension.
+ * <p>
+ * The implicit wait is tracked in the {@link DriverContext} so it is read from the driver at most once per session.
+ * Set it through {@link CoreDriver#manage()} or {@link #implicitlyWait(WebDriver, Duration)} to keep it tracked.
+ * Time spent in lookups failing under the implicit wait is reported in {@link WaitAccounting}.
+ */
+public final class TimeoutGovernor {
+
+    private TimeoutGovernor() {
+    }
+
+    /**
+     * Method to set the implicit wait of a session
+     *
+     * @param driver  {@link WebDriver}, wrapped or not
+     * @param timeout implicit wait
+     */
+    public static void implicitlyWait(final WebDriver driver, final Duration timeout) {
+        final DriverContext context = DriverContext.of(driver);
+        context.setImplicitWait(timeout);
+        if (!context.isImplicitWaitSuspended()) {
+            DriverContext.unwrap(driver).manage().timeouts().implicitlyWait(timeout);
+        }
+    }
+
+    /**
+     * Method to get the implicit wait of a session, read from the driver when not known yet
+     *
+     * @param driver {@link WebDriver}, wrapped or not
+     * @return implicit wait in use outside of suspensions
+     */
+    public static Duration getImplicitWait(final WebDriver driver) {
+        final DriverContext context = DriverContext.of(driver);
+        Duration implicitWait = context.getImplicitWait();
+        if (implicitWait == null) {
+            implicitWait = DriverContext.unwrap(driver).manage().timeouts().getImplicitWaitTimeout();
+            context.setImplicitWait(implicitWait);
+        }
+        return implicitWait;
+    }
+
+    /**
+     * Method to run a block with the implicit wait of the session set to zero. The driver is only called when the
+     * implicit wait is not zero already and no outer block suspended it.
+     *
+     * @param driver {@link WebDriver}, wrapped or not
+     * @param action block looking up elements without waiting for them
+     * @param <T>    result type of the block
+     * @return result of the block
+     */
+    public static <T> T withoutImplicitWait(final WebDriver driver, final Supplier<T> action) {
+        final DriverContext context = DriverContext.of(driver);
+        if (context.isImplicitWaitSuspended() || getImplicitWait(driver).isZero()) {
+            return action.get();
+        }
+        final WebDriver.Timeouts timeouts = DriverContext.unwrap(driver).manage().timeouts();
+        Throwable failure = null;
+        try {
+            if (context.suspendImplicitWait() == 1) {
+                timeouts.implicitlyWait(Duration.ZERO);
+            }
+            return action.get();
+        } catch (final RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (context.resumeImplicitWait() == 0) {
+                restore(timeouts, context, failure);
+            }
+        }
+    }
+
+    /**
+     * Restores the implicit wait, a failure to do so is added to the failure of the block rather than replacing it
+     */
+    private static void restore(final WebDriver.Timeouts timeouts, final DriverContext context, final Throwable failure) {
+        try {
+            timeouts.implicitlyWait(context.getImplicitWait());
+        } catch (final RuntimeException e) {
+            if (failure == null) {
+                throw e;
+            }
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Method to account a lookup that found nothing, which took up to the implicit wait to do so. Nothing is
+     * accounted while the implicit wait is suspended or zero.
+     *
+     * @param driver  {@link WebDriver} of the lookup
+     * @param start   {@link Sleeper#getClock()} nano time the lookup started at
+     * @param skipped classes left out of the call site, e.g. the locator wrappers
+     */
+    public static void recordFailedLookup(final WebDriver driver, final long start, final Class<?>... skipped) {
+        if (driver == null) {
+            return;
+        }
+        final DriverContext context = DriverContext.of(driver);
+        final Duration implicitWait = context.getImplicitWait();
+        if (context.isImplicitWaitSuspended() || implicitWait == null || implicitWait.isZero()) {
+            return;
+        }
+        final long millis = TimeUnit.NANOSECONDS.toMillis(Sleeper.getClock().nanoTime() - start);
+        final Class<?>[] skip = Arrays.copyOf(skipped, skipped.length + 1);
+        skip[skipped.length] = TimeoutGovernor.class;
+        WaitAccounting.recordImplicitWait(CallSite.describe(skip), millis);
+    }
+}
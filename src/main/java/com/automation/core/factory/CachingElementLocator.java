@@ -0,0 +1,152 @@
+package com.automation.core.factory;
+
+import com.automation.core.driver.DriverContext;
+import com.automation.core.utilities.Sleeper;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Element locator keeping the resolved {@link WebElement}s of a field until the DOM epoch of the driver changes
+ * (navigation, refresh, window or frame switch), the element is reported stale through {@link #invalidate()} or,
+ * when a time to live is given, the entry expires.
+ * <p>
+ * Enabled with the system property {@code core.element.cache=true}, see {@link CustomElementLocatorFactory}.
+ * Fields annotated with {@link org.openqa.selenium.support.CacheLookup} are kept for the whole epoch, other fields
+ * for the time to live only. Empty results of {@link #findElements()} are not cached.
+ *
+ * @see DriverContext#domEpoch()
+ */
+public class CachingElementLocator implements ElementLocator {
+
+    private final ElementLocator delegate;
+    private final DriverContext context;
+    private final long timeToLiveMillis;
+    private WebElement cachedElement;
+    private long cachedEpoch;
+    private long cachedAt;
+    private List<WebElement> cachedElements;
+    private long cachedElementsEpoch;
+    private long cachedElementsAt;
+
+    /**
+     * Constructor for a locator caching for the whole DOM epoch
+     *
+     * @param delegate locator used to resolve the element
+     * @param driver   {@link WebDriver} the element belongs to
+     */
+    public CachingElementLocator(final ElementLocator delegate, final WebDriver driver) {
+        this(delegate, driver, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param delegate         locator used to resolve the element, it should not cache itself
+     * @param driver           {@link WebDriver} the element belongs to
+     * @param timeToLiveMillis time an entry is kept within the DOM epoch, 0 or less to keep it for the whole epoch
+     */
+    public CachingElementLocator(final ElementLocator delegate, final WebDriver driver, final long timeToLiveMillis) {
+        this.delegate = delegate;
+        this.context = DriverContext.of(driver);
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    @Override
+    public WebElement findElement() {
+        final WebElement cached = cachedElement;
+        if (cached != null && isValid(cachedEpoch, cachedAt)) {
+            return cached;
+        }
+        final long epoch = context.domEpoch();
+        final long now = now();
+        final WebElement element = delegate.findElement();
+        cachedElement = element;
+        cachedEpoch = epoch;
+        cachedAt = now;
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        final List<WebElement> cached = cachedElements;
+        if (cached != null && isValid(cachedElementsEpoch, cachedElementsAt)) {
+            return new ArrayList<>(cached);
+        }
+        final long epoch = context.domEpoch();
+        final long now = now();
+        final List<WebElement> elements = delegate.findElements();
+        if (elements.isEmpty()) {
+            cachedElements = null;
+            return elements;
+        }
+        cachedElements = new ArrayList<>(elements);
+        cachedElementsEpoch = epoch;
+        cachedElementsAt = now;
+        return elements;
+    }
+
+    /**
+     * Method to drop the cached elements, e.g. after a {@link org.openqa.selenium.StaleElementReferenceException}
+     */
+    public void invalidate() {
+        cachedElement = null;
+        cachedElements = null;
+    }
+
+    /**
+     * Method to cache an element resolved elsewhere, e.g. by {@link PageSnapshot}, for the current DOM epoch
+     *
+     * @param element element the delegate locator would find
+     */
+    public void seed(final WebElement element) {
+        cachedElement = element;
+        cachedEpoch = context.domEpoch();
+        cachedAt = now();
+    }
+
+    /**
+     * Method to cache elements resolved elsewhere, e.g. by {@link PageSnapshot}, for the current DOM epoch
+     *
+     * @param elements elements the delegate locator would find
+     */
+    public void seedAll(final List<WebElement> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        cachedElements = new ArrayList<>(elements);
+        cachedElementsEpoch = context.domEpoch();
+        cachedElementsAt = now();
+    }
+
+    /**
+     * Method to check the given element is the cached one and the DOM did not change since it was resolved
+     *
+     * @param element element to check
+     * @return true if the element can be used without checking its presence again
+     */
+    public boolean isCurrent(final WebElement element) {
+        return element != null && element == cachedElement && isValid(cachedEpoch, cachedAt);
+    }
+
+    public ElementLocator getDelegate() {
+        return delegate;
+    }
+
+    private boolean isValid(final long epoch, final long at) {
+        return epoch == context.domEpoch() && (timeToLiveMillis <= 0 || now() - at < timeToLiveMillis);
+    }
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(Sleeper.getClock().nanoTime());
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -1,7 +1,10 @@
 package com.automation.core.factory;
 
 import com.automation.core.exceptions.CoreException;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.Annotations;
 import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
@@ -10,10 +13,19 @@ import java.lang.reflect.Field;
 
 /**
  * Custom Element Locator Factory
+ * <p>
+ * With the system property {@code core.element.cache=true} the resolved elements are cached per field
+ * until the DOM changes, see {@link CachingElementLocator}. Fields annotated with
+ * {@link org.openqa.selenium.support.CacheLookup} are cached until navigation or a window or frame switch, other
+ * fields additionally expire after {@code core.element.cache.ttl} milliseconds (default 1000). Without the property
+ * {@code @CacheLookup} keeps its Selenium behaviour.
  *
  * @see ElementLocatorFactory
  */
 public class CustomElementLocatorFactory implements ElementLocatorFactory {
+    private static final boolean ELEMENT_CACHE = Boolean.parseBoolean(System.getProperty("core.element.cache", "false"));
+    private static final long ELEMENT_CACHE_TTL = Long.getLong("core.element.cache.ttl", 1000L);
+
     private final WebDriver driver;
 
     /**
@@ -29,6 +41,36 @@ public class CustomElementLocatorFactory implements ElementLocatorFactory {
 
     @Override
     public ElementLocator createLocator(final Field field) {
-        return new DefaultElementLocator(driver, field);
+        return createLocator(new Annotations(field));
+    }
+
+    /**
+     * Method to create a locator from the cached annotations of a field
+     *
+     * @param metadata parsed field, see {@link PageMetadata}
+     * @return locator bound to the driver
+     */
+    ElementLocator createLocator(final PageMetadata.FieldMetadata metadata) {
+        return createLocator((AbstractAnnotations) metadata);
+    }
+
+    private ElementLocator createLocator(final AbstractAnnotations annotations) {
+        if (!ELEMENT_CACHE) {
+            return new DefaultElementLocator(driver, annotations);
+        }
+        // the caching locator replaces the never expiring @CacheLookup cache of DefaultElementLocator
+        final By by = annotations.buildBy();
+        final ElementLocator locator = new DefaultElementLocator(driver, new AbstractAnnotations() {
+            @Override
+            public By buildBy() {
+                return by;
+            }
+
+            @Override
+            public boolean isLookupCached() {
+                return false;
+            }
+        });
+        return new CachingElementLocator(locator, driver, annotations.isLookupCached() ? 0 : ELEMENT_CACHE_TTL);
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandl
 
 import java.lang.reflect.*;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * WrappedElementDecorator recognizes a few things that DefaultFieldDecorator does not.
@@ -86,7 +87,7 @@ public class ElementDecorator implements FieldDecorator {
         final WebDriver driverRef = driver;
         final InvocationHandler handler;
         if (interfaceType.getAnnotation(ImplementedBy.class) != null) {
-            handler = new ElementListHandler(interfaceType, locator, driverRef);
+            return proxyForList(loader, new ElementListHandler(interfaceType, locator, driverRef));
         } else {
             handler = new LocatingElementListHandler(locator);
         }
@@ -98,7 +99,7 @@ public class ElementDecorator implements FieldDecorator {
 
     /**
      * Generate a type-parameterized locator proxy for the element in question. We use our customized InvocationHandler
-     * here to wrap classes.
+     * here to wrap classes. When a delegate class was generated for the field type it is used instead of a proxy.
      *
      * @param loader    ClassLoader of the wrapping class
      * @param fieldType Interface wrapping the underlying WebElement
@@ -110,7 +111,14 @@ public class ElementDecorator implements FieldDecorator {
     protected <T> T proxyForLocator(final ClassLoader loader, final Class<T> fieldType, final ElementLocator locator, final WebDriver driver) {
         final WebDriver driverRef = driver;
 
-        final InvocationHandler handler = new ElementHandler(fieldType, locator, driverRef);
+        return proxyFor(loader, fieldType, new ElementHandler(fieldType, locator, driverRef));
+    }
+
+    private <T> T proxyFor(final ClassLoader loader, final Class<T> fieldType, final ElementHandler handler) {
+        final T delegate = ElementDelegate.create(fieldType, handler);
+        if (delegate != null) {
+            return delegate;
+        }
 
         final T proxy;
         proxy = fieldType.cast(Proxy.newProxyInstance(
@@ -118,7 +126,53 @@ public class ElementDecorator implements FieldDecorator {
         return proxy;
     }
 
-    private Class<?> getErasureClass(final Field field) {
+    @SuppressWarnings("unchecked")
+    private <T> List<T> proxyForList(final ClassLoader loader, final ElementListHandler handler) {
+        if (ElementDelegate.isEnabled()) {
+            return new ElementListDelegate<>(handler);
+        }
+        return (List<T>) Proxy.newProxyInstance(loader, new Class[]{List.class}, handler);
+    }
+
+    /**
+     * Method to decorate a field from its cached page metadata, see {@link PageMetadata}
+     *
+     * @param loader   ClassLoader of the wrapping class
+     * @param metadata parsed field
+     * @return proxy for the field or null when no locator was created
+     */
+    Object decorate(final ClassLoader loader, final PageMetadata.FieldMetadata metadata) {
+        final ElementLocator locator = factory.createLocator(metadata);
+        if (locator == null) {
+            return null;
+        }
+        if (metadata.isList()) {
+            return proxyForListLocator(loader, metadata.getElementType(), locator, driver);
+        }
+        return proxyForLocator(loader, metadata.getElementType(), locator, driver);
+    }
+
+    /**
+     * Method to decorate a field without creating its locator. The locator is created from the cached page metadata
+     * the first time the element is used. Lists of elements without {@link ImplementedBy} are decorated eagerly.
+     *
+     * @param loader   ClassLoader of the wrapping class
+     * @param metadata parsed field
+     * @return proxy for the field
+     */
+    Object decorateLazily(final ClassLoader loader, final PageMetadata.FieldMetadata metadata) {
+        final Class<?> elementType = metadata.getElementType();
+        final Supplier<ElementLocator> locatorSource = () -> factory.createLocator(metadata);
+        if (!metadata.isList()) {
+            return proxyFor(loader, elementType, new ElementHandler(elementType, locatorSource, driver));
+        }
+        if (elementType.getAnnotation(ImplementedBy.class) == null) {
+            return decorate(loader, metadata);
+        }
+        return proxyForList(loader, new ElementListHandler(elementType, locatorSource, driver));
+    }
+
+    static Class<?> getErasureClass(final Field field) {
         // Type erasure in Java isn't complete. Attempt to discover the generic
         // interfaceType of the list.
         final Type genericType = field.getGenericType();
@@ -128,7 +182,7 @@ public class ElementDecorator implements FieldDecorator {
         return (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
     }
 
-    private boolean isDecoratableList(final Field field) {
+    static boolean isDecoratableList(final Field field) {
         if (!List.class.isAssignableFrom(field.getType())) {
             return false;
         }
@@ -164,12 +218,7 @@ public class ElementDecorator implements FieldDecorator {
      * @return a proxy representing the class we need to wrap.
      */
     protected <T> T proxyForLocator(final ClassLoader loader, final Class<T> interfaceType, final ElementLocator locator) {
-        final InvocationHandler handler = new ElementHandler(interfaceType, locator);
-
-        final T proxy;
-        proxy = interfaceType.cast(Proxy.newProxyInstance(
-                loader, new Class[]{interfaceType, WebElement.class, WrapsElement.class, Locatable.class}, handler));
-        return proxy;
+        return proxyFor(loader, interfaceType, new ElementHandler(interfaceType, locator));
     }
 
     /**
@@ -185,7 +234,7 @@ public class ElementDecorator implements FieldDecorator {
     protected <T> List<T> proxyForListLocator(final ClassLoader loader, final Class<T> interfaceType, final ElementLocator locator) {
         final InvocationHandler handler;
         if (interfaceType.getAnnotation(ImplementedBy.class) != null) {
-            handler = new ElementListHandler(interfaceType, locator);
+            return proxyForList(loader, new ElementListHandler(interfaceType, locator));
         } else {
             handler = new LocatingElementListHandler(locator);
         }
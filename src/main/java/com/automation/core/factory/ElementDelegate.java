@@ -0,0 +1,148 @@
+package com.automation.core.factory;
+
+import com.automation.core.exceptions.ElementNotPresentException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Base class of the element delegates generated by
+ * {@link com.automation.core.annotation.processor.ElementDelegateProcessor}. A delegate replaces the
+ * {@link java.lang.reflect.Proxy} of a page object field, resolving the element through its {@link ElementHandler}
+ * and calling the wrapper directly.
+ * <p>
+ * Delegates are used whenever one was generated for the field type, set the system property
+ * {@code core.element.delegates=false} to fall back to proxies.
+ */
+public abstract class ElementDelegate {
+
+    static final String SUFFIX = "_ElementDelegate";
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("core.element.delegates", "true"));
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(void.class, ElementHandler.class);
+
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(final Class<?> interfaceType) {
+            try {
+                final Class<?> delegateType = Class.forName(delegateClassName(interfaceType), true, interfaceType.getClassLoader());
+                if (!interfaceType.isAssignableFrom(delegateType)) {
+                    return null;
+                }
+                return MethodHandles.publicLookup().findConstructor(delegateType, CONSTRUCTOR)
+                        .asType(MethodType.methodType(Object.class, ElementHandler.class));
+            } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException | LinkageError e) {
+                return null;
+            }
+        }
+    };
+
+    private final ElementHandler handler;
+
+    protected ElementDelegate(final ElementHandler handler) {
+        this.handler = handler;
+    }
+
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Method to create the generated delegate of an interface
+     *
+     * @param interfaceType element interface
+     * @param handler       handler resolving the element
+     * @param <T>           type of the interface
+     * @return delegate, or null if none was generated or delegates are disabled
+     */
+    static <T> T create(final Class<T> interfaceType, final ElementHandler handler) {
+        if (!ENABLED) {
+            return null;
+        }
+        final MethodHandle constructor = CONSTRUCTORS.get(interfaceType);
+        if (constructor == null) {
+            return null;
+        }
+        try {
+            return interfaceType.cast((Object) constructor.invokeExact(handler));
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Method to return the delegate class name of an interface, mirrors the naming of the annotation processor
+     *
+     * @param interfaceType element interface
+     * @return binary name of the delegate class
+     */
+    static String delegateClassName(final Class<?> interfaceType) {
+        final String name = interfaceType.getName();
+        final int packageEnd = name.lastIndexOf('.');
+        return name.substring(0, packageEnd + 1) + name.substring(packageEnd + 1).replace('$', '_') + SUFFIX;
+    }
+
+    ElementHandler getHandler() {
+        return handler;
+    }
+
+    /**
+     * Method to resolve the wrapped element, called on every delegated method
+     *
+     * @return wrapper instance for the current element
+     */
+    protected final Object target() {
+        try {
+            return handler.resolve();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Method to resolve the wrapped element for {@code isPresent()} and {@code isVisible()}, without waiting for it
+     *
+     * @return wrapper instance for the current element, or null if the element is not on the page
+     * @see ElementHandler#probe()
+     */
+    protected final Object probe() {
+        try {
+            return handler.probe();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Method to resolve the wrapped element again after it went stale
+     *
+     * @param cause stale element exception
+     * @return wrapper instance for the element resolved again
+     * @see ElementHandler#recover(StaleElementReferenceException)
+     */
+    protected final Object recover(final StaleElementReferenceException cause) {
+        try {
+            return handler.recover(cause);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return target().toString();
+        } catch (final ElementNotPresentException e) {
+            return "Proxy element for: " + handler.getLocator();
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.automation.core.factory;
 
 import com.automation.core.base.ExtWebElement;
-import com.automation.core.exceptions.CoreException;
+import com.automation.core.driver.TimeoutGovernor;
 import com.automation.core.exceptions.ElementNotPresentException;
+import com.automation.core.utilities.Sleeper;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
-import java.lang.reflect.*;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
 
 import static com.automation.core.factory.ImplementedByProcessor.getWrapperClass;
 
@@ -18,9 +22,11 @@ import static com.automation.core.factory.ImplementedByProcessor.getWrapperClass
  * mix-ins of WebElement and Locatable, etc. Saves the wrapping type for calling the constructor of the wrapped classes.
  */
 public class ElementHandler implements InvocationHandler {
-    private final ElementLocator locator;
-    private final Class<?> wrappingType;
+    private final Supplier<ElementLocator> locatorSource;
+    private ElementLocator locator;
+    private final InvocationPlan plan;
     private WebDriver driver;
+    private By by;
 
     /**
      * Generates a handler to retrieve the WebElement from a locator for a given WebElement interface descendant.
@@ -31,57 +37,163 @@ public class ElementHandler implements InvocationHandler {
      */
     public <T> ElementHandler(final Class<T> interfaceType, final ElementLocator locator) {
         this.locator = locator;
+        this.locatorSource = null;
         if (!ExtWebElement.class.isAssignableFrom(interfaceType)) {
             throw new RuntimeException("interface not assignable to Element.");
         }
 
-        wrappingType = getWrapperClass(interfaceType);
+        plan = InvocationPlan.forWrapper(getWrapperClass(interfaceType));
     }
 
     public <T> ElementHandler(final Class<T> interfaceType, final ElementLocator locator, final WebDriver driver) {
-        this.locator = locator;
+        this(interfaceType, locator);
         this.driver = driver;
+    }
+
+    /**
+     * Generates a handler whose locator is created on first use of the element, see {@link ExtendedPageFactory}.
+     *
+     * @param interfaceType Interface wrapping this class. It contains a reference the the implementation.
+     * @param locatorSource creates the locator on first use
+     * @param driver        webdriver {@link WebDriver}
+     * @param <T>           type of the interface
+     */
+    <T> ElementHandler(final Class<T> interfaceType, final Supplier<ElementLocator> locatorSource, final WebDriver driver) {
         if (!ExtWebElement.class.isAssignableFrom(interfaceType)) {
             throw new RuntimeException("interface not assignable to Element.");
         }
-
-        wrappingType = getWrapperClass(interfaceType);
+        this.locatorSource = locatorSource;
+        this.driver = driver;
+        plan = InvocationPlan.forWrapper(getWrapperClass(interfaceType));
     }
 
     @Override
     public Object invoke(final Object object, final Method method, final Object[] objects) throws Throwable {
-
-        final By by;
-        final Field elementField;
-        try {
-            elementField = locator.getClass().getDeclaredField("by");
-            elementField.setAccessible(true);
-            by = (By) elementField.get(locator);
-        } catch (final Exception e) {
-            throw new CoreException("Failed to obtain element locator - " + locator.toString());
+        if (isProbe(method, objects)) {
+            final Object wrapper = probe();
+            return wrapper == null ? Boolean.FALSE : dispatch(method, wrapper, objects);
         }
-
         final WebElement element;
         try {
-            element = locator.findElement();
-        } catch (final NoSuchElementException e) {
+            element = locate();
+        } catch (final ElementNotPresentException e) {
             if ("toString".equals(method.getName())) {
-                return "Proxy element for: " + locator;
+                return "Proxy element for: " + getLocator();
             }
-            throw new ElementNotPresentException("Element not found - " + locator);
+            throw e;
         }
 
         if ("getWrappedElement".equals(method.getName())) {
             return element;
         }
-        final Constructor<?> cons = wrappingType.getConstructor(WebDriver.class, WebElement.class, By.class, ElementLocator.class);
 
+        return dispatch(method, wrap(element), objects);
+    }
+
+    private Object dispatch(final Method method, final Object wrapper, final Object[] objects) throws Throwable {
+        try {
+            return InvocationPlan.dispatch(method, wrapper, objects);
+        } catch (final StaleElementReferenceException e) {
+            return InvocationPlan.dispatch(method, recover(e), objects);
+        }
+    }
+
+    /**
+     * Method to locate the element and wrap it in the implementation of the interface
+     *
+     * @return wrapper instance
+     * @throws Throwable thrown by the wrapper constructor
+     */
+    public Object resolve() throws Throwable {
+        return wrap(locate());
+    }
+
+    /**
+     * Method to locate the element for a presence or visibility check, which must not wait for the element.
+     * The implicit wait of the driver is suspended for the lookup, see {@link TimeoutGovernor}.
+     *
+     * @return wrapper instance, or null if the element is not on the page
+     * @throws Throwable thrown by the wrapper constructor
+     */
+    public Object probe() throws Throwable {
+        final WebElement element;
+        try {
+            element = driver == null ? locate() : TimeoutGovernor.withoutImplicitWait(driver, this::locate);
+        } catch (final ElementNotPresentException e) {
+            return null;
+        }
+        return wrap(element);
+    }
+
+    /**
+     * Method to recover from a stale element. A cached element is dropped and resolved again,
+     * without element caching the exception is rethrown. A wrapper extending
+     * {@link com.automation.core.base.ExtWebElementImpl} already located the element again within its own retry
+     * budget, so its stale exception is rethrown rather than repeating the operation once more.
+     *
+     * @param cause stale element exception
+     * @return wrapper instance for the element resolved again
+     * @throws Throwable the cause if the element was not cached or the wrapper recovers itself, or thrown by the
+     *                   wrapper constructor
+     */
+    public Object recover(final StaleElementReferenceException cause) throws Throwable {
+        final ElementLocator locator = getLocator();
+        if (plan.isRecovering() || !(locator instanceof CachingElementLocator)) {
+            throw cause;
+        }
+        ((CachingElementLocator) locator).invalidate();
+        return resolve();
+    }
+
+    public ElementLocator getLocator() {
+        if (locator == null) {
+            locator = locatorSource.get();
+        }
+        return locator;
+    }
+
+    private WebElement locate() {
+        final ElementLocator locator = getLocator();
+        final long start = Sleeper.getClock().nanoTime();
         try {
-            final Object thing = cons.newInstance(driver, element, by, locator);
-            return method.invoke(wrappingType.cast(thing), objects);
-        } catch (final InvocationTargetException e) {
-            // Unwrap the underlying exception
-            throw e.getCause();
+            return locator.findElement();
+        } catch (final NoSuchElementException e) {
+            TimeoutGovernor.recordFailedLookup(driver, start, ElementHandler.class);
+            throw new ElementNotPresentException("Element not found - " + locator);
+        }
+    }
+
+    /**
+     * Method to tell the checks answered with false when the element is missing, instead of failing to locate it
+     *
+     * @param method  invoked method
+     * @param objects arguments of the method
+     * @return true for {@code isPresent()} and {@code isVisible()}
+     */
+    private static boolean isProbe(final Method method, final Object[] objects) {
+        return (objects == null || objects.length == 0) && method.getReturnType() == boolean.class
+               && ("isPresent".equals(method.getName()) || "isVisible".equals(method.getName()));
+    }
+
+    private Object wrap(final WebElement element) throws Throwable {
+        return plan.wrap(driver, element, by(), getLocator(), this::relocate);
+    }
+
+    /**
+     * Method to locate a stale element again, bypassing the element cache
+     */
+    private WebElement relocate() {
+        final ElementLocator locator = getLocator();
+        if (locator instanceof CachingElementLocator) {
+            ((CachingElementLocator) locator).invalidate();
+        }
+        return locator.findElement();
+    }
+
+    private By by() {
+        if (by == null) {
+            by = InvocationPlan.byOf(getLocator());
         }
+        return by;
     }
-}
\ No newline at end of file
+}
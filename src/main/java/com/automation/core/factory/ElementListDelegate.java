@@ -0,0 +1,165 @@
+package com.automation.core.factory;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Concrete replacement of the {@link java.lang.reflect.Proxy} for lists of wrapped elements. Every call resolves
+ * the current elements through its {@link ElementListHandler}, as the proxy did, and calls the list directly.
+ *
+ * @param <T> type of the wrapped elements
+ */
+@SuppressWarnings("unchecked")
+public class ElementListDelegate<T> implements List<T> {
+
+    private final ElementListHandler handler;
+
+    public ElementListDelegate(final ElementListHandler handler) {
+        this.handler = handler;
+    }
+
+    ElementListHandler getHandler() {
+        return handler;
+    }
+
+    /**
+     * Method to resolve the current elements
+     *
+     * @return list of wrapped elements
+     */
+    protected List<T> target() {
+        return (List<T>) handler.resolve();
+    }
+
+    @Override
+    public int size() {
+        return target().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return target().isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return target().contains(o);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return target().iterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return target().toArray();
+    }
+
+    @Override
+    public <A> A[] toArray(final A[] a) {
+        return target().toArray(a);
+    }
+
+    @Override
+    public boolean add(final T t) {
+        return target().add(t);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return target().remove(o);
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        return target().containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends T> c) {
+        return target().addAll(c);
+    }
+
+    @Override
+    public boolean addAll(final int index, final Collection<? extends T> c) {
+        return target().addAll(index, c);
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        return target().removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+        return target().retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        target().clear();
+    }
+
+    @Override
+    public T get(final int index) {
+        return target().get(index);
+    }
+
+    @Override
+    public T set(final int index, final T element) {
+        return target().set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final T element) {
+        target().add(index, element);
+    }
+
+    @Override
+    public T remove(final int index) {
+        return target().remove(index);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return target().indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return target().lastIndexOf(o);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return target().listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(final int index) {
+        return target().listIterator(index);
+    }
+
+    @Override
+    public List<T> subList(final int fromIndex, final int toIndex) {
+        return target().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return target().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return target().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return target().toString();
+    }
+}
@@ -1,25 +1,29 @@
 package com.automation.core.factory;
 
 import com.automation.core.base.ExtWebElement;
-import com.automation.core.exceptions.CoreException;
+import com.automation.core.driver.TimeoutGovernor;
 import com.automation.core.exceptions.ElementNotPresentException;
+import com.automation.core.utilities.Sleeper;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
-import java.lang.reflect.*;
-import java.util.ArrayList;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Wraps a list of WebElements in multiple wrapped elements.
  */
 public class ElementListHandler implements InvocationHandler {
 
-    private final ElementLocator locator;
-    private final Class<?> wrappingType;
+    private final Supplier<ElementLocator> locatorSource;
+    private ElementLocator locator;
+    private final InvocationPlan plan;
     private WebDriver driver;
+    private By by;
 
     /**
      * Given an interface and a locator, apply a wrapper over a list of elements.
@@ -30,20 +34,33 @@ public class ElementListHandler implements InvocationHandler {
      */
     public <T> ElementListHandler(final Class<T> interfaceType, final ElementLocator locator) {
         this.locator = locator;
+        this.locatorSource = null;
         if (!ExtWebElement.class.isAssignableFrom(interfaceType)) {
             throw new RuntimeException("interface not assignable to ExtWebElement.");
         }
-        wrappingType = ImplementedByProcessor.getWrapperClass(interfaceType);
-
+        plan = InvocationPlan.forWrapper(ImplementedByProcessor.getWrapperClass(interfaceType));
     }
 
     public <T> ElementListHandler(final Class<T> interfaceType, final ElementLocator locator, final WebDriver driver) {
-        this.locator = locator;
+        this(interfaceType, locator);
         this.driver = driver;
+    }
+
+    /**
+     * Generates a handler whose locator is created on first use of the element, see {@link ExtendedPageFactory}.
+     *
+     * @param interfaceType Interface wrapping this class. It contains a reference the the implementation.
+     * @param locatorSource creates the locator on first use
+     * @param driver        webdriver {@link WebDriver}
+     * @param <T>           type of the interface
+     */
+    <T> ElementListHandler(final Class<T> interfaceType, final Supplier<ElementLocator> locatorSource, final WebDriver driver) {
         if (!ExtWebElement.class.isAssignableFrom(interfaceType)) {
             throw new RuntimeException("interface not assignable to ExtWebElement.");
         }
-        wrappingType = ImplementedByProcessor.getWrapperClass(interfaceType);
+        this.locatorSource = locatorSource;
+        this.driver = driver;
+        plan = InvocationPlan.forWrapper(ImplementedByProcessor.getWrapperClass(interfaceType));
     }
 
     /**
@@ -57,30 +74,36 @@ public class ElementListHandler implements InvocationHandler {
      */
     @Override
     public Object invoke(final Object o, final Method method, final Object[] objects) throws Throwable {
-        final By by;
-        final Field elementField;
-        try {
-            elementField = locator.getClass().getDeclaredField("by");
-            elementField.setAccessible(true);
-            by = (By) elementField.get(locator);
-        } catch (final Exception e) {
-            throw new CoreException("Failed to obtain element locator - " + locator.toString());
-        }
-        final List<Object> wrappedList = new ArrayList<Object>();
-        final Constructor<?> cons = wrappingType.getConstructor(WebDriver.class, WebElement.class, By.class, ElementLocator.class);
-        if (locator.findElements().isEmpty())
+        return InvocationPlan.dispatch(method, resolve(), objects);
+    }
+
+    /**
+     * Method to locate the elements, each of them is wrapped in the implementation of the interface on first access
+     *
+     * @return list of wrapper instances
+     */
+    public List<Object> resolve() {
+        final ElementLocator locator = getLocator();
+        final long start = Sleeper.getClock().nanoTime();
+        final List<WebElement> elements = locator.findElements();
+        if (elements.isEmpty()) {
+            TimeoutGovernor.recordFailedLookup(driver, start, ElementListHandler.class);
             throw new ElementNotPresentException("Element not found  - " + locator);
-        for (final WebElement element : locator.findElements()) {
-            final Object thing = cons.newInstance(driver, element, by, locator);
-            wrappedList.add(wrappingType.cast(thing));
-        }
-        try {
-            return method.invoke(wrappedList, objects);
-        } catch (final InvocationTargetException e) {
-            // Unwrap the underlying exception
-            throw e.getCause();
         }
+        return new LazyElementList(elements, plan, driver, by(), locator);
     }
 
+    public ElementLocator getLocator() {
+        if (locator == null) {
+            locator = locatorSource.get();
+        }
+        return locator;
+    }
 
-}
\ No newline at end of file
+    private By by() {
+        if (by == null) {
+            by = InvocationPlan.byOf(getLocator());
+        }
+        return by;
+    }
+}
@@ -12,21 +12,28 @@ import java.lang.reflect.InvocationTargetException;
  * Element factory for wrapped elements. Similar to {@link org.openqa.selenium.support.PageFactory}
  */
 public class ExtendedPageFactory {
+    private static final boolean LAZY_INIT = Boolean.parseBoolean(System.getProperty("core.page.lazy", "false"));
+
     /**
      * See {@link org.openqa.selenium.support.PageFactory#initElements(org.openqa.selenium.WebDriver driver, Class)}
      */
     public static <T> T initElements(final WebDriver driver, final Class<T> pageClassToProxy) {
         final T page = instantiatePage(driver, pageClassToProxy);
-        final WebDriver driverRef = driver;
-        PageFactory.initElements(new ElementDecorator(new CustomElementLocatorFactory(driverRef)), page);
+        proxyFields(new ElementDecorator(new CustomElementLocatorFactory(driver)), page);
         return page;
     }
     /**
      * See {@link org.openqa.selenium.support.PageFactory#initElements(org.openqa.selenium.support.pagefactory.FieldDecorator, Object)}
+     * <p>
+     * The annotations of the page class are parsed once, see {@link PageMetadata}. Later calls for the same class
+     * only bind new locators to the driver.
+     * <p>
+     * With the system property {@code core.page.lazy=true} the fields get element proxies whose annotations are parsed
+     * and whose locators are created on first use of the element, so pages that a scenario never touches cost one
+     * proxy per field. Invalid locator annotations are then reported on first use instead of on page creation.
      */
     public static void initElements(final WebDriver driver, final Object page) {
-        final WebDriver driverRef = driver;
-        PageFactory.initElements(new ElementDecorator(new CustomElementLocatorFactory(driverRef), driverRef), page);
+        proxyFields(new ElementDecorator(new CustomElementLocatorFactory(driver), driver), page);
     }
 
     /**
@@ -44,6 +51,22 @@ public class ExtendedPageFactory {
         PageFactory.initElements(decorator, page);
     }
 
+    private static void proxyFields(final ElementDecorator decorator, final Object page) {
+        final PageMetadata metadata = PageMetadata.of(page.getClass());
+        for (final PageMetadata.FieldMetadata field : metadata.getFields()) {
+            final Object value = LAZY_INIT
+                                 ? decorator.decorateLazily(metadata.getLoader(), field)
+                                 : decorator.decorate(metadata.getLoader(), field);
+            if (value != null) {
+                try {
+                    field.getField().set(page, value);
+                } catch (final IllegalAccessException e) {
+                    throw new CoreException("Failed to initialize field: " + field.getField().getName(), e);
+                }
+            }
+        }
+    }
+
     private static <T> T instantiatePage(final WebDriver driver, final Class<T> pageClassToProxy) {
         try {
             try {
@@ -0,0 +1,157 @@
+package com.automation.core.factory;
+
+import com.automation.core.base.ExtWebElementImpl;
+import com.automation.core.exceptions.CoreException;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Reflection work of the element handlers, resolved once and kept as {@link MethodHandle}s.
+ * <ul>
+ *     <li>per wrapper type: the {@code (WebDriver, WebElement, By, ElementLocator)} constructor</li>
+ *     <li>per locator type: the getter of its private {@code by} field</li>
+ *     <li>per proxied method: a spread invoker taking the receiver and the argument array</li>
+ * </ul>
+ */
+final class InvocationPlan {
+
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final MethodType WRAPPER_CONSTRUCTOR = MethodType.methodType(void.class, WebDriver.class, WebElement.class, By.class, ElementLocator.class);
+    private static final MethodType WRAPPER_FACTORY = MethodType.methodType(Object.class, WebDriver.class, WebElement.class, By.class, ElementLocator.class);
+    private static final MethodType SPREAD_INVOKER = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private static final ClassValue<InvocationPlan> PLANS = new ClassValue<InvocationPlan>() {
+        @Override
+        protected InvocationPlan computeValue(final Class<?> wrappingType) {
+            return new InvocationPlan(wrappingType);
+        }
+    };
+
+    private static final ClassValue<MethodHandle> BY_GETTERS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(final Class<?> locatorType) {
+            try {
+                final Field field = locatorType.getDeclaredField("by");
+                field.setAccessible(true);
+                return MethodHandles.lookup().unreflectGetter(field)
+                        .asType(MethodType.methodType(By.class, ElementLocator.class));
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+    };
+
+    private static final Map<Method, MethodHandle> INVOKERS = new ConcurrentHashMap<>();
+
+    private final MethodHandle constructor;
+    private final boolean recovering;
+
+    private InvocationPlan(final Class<?> wrappingType) {
+        recovering = ExtWebElementImpl.class.isAssignableFrom(wrappingType);
+        try {
+            constructor = MethodHandles.publicLookup().findConstructor(wrappingType, WRAPPER_CONSTRUCTOR).asType(WRAPPER_FACTORY);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new CoreException("Wrapper " + wrappingType.getName()
+                                    + " needs a public (WebDriver, WebElement, By, ElementLocator) constructor", e);
+        }
+    }
+
+    /**
+     * Method to get the plan of a wrapper type
+     *
+     * @param wrappingType class implementing the wrapped interface
+     * @return cached plan
+     */
+    static InvocationPlan forWrapper(final Class<?> wrappingType) {
+        return PLANS.get(wrappingType);
+    }
+
+    /**
+     * Method to create a wrapper instance
+     *
+     * @param driver   {@link WebDriver}
+     * @param element  element to wrap
+     * @param by       locator of the element
+     * @param locator  element locator
+     * @param resolver locates the element again when it went stale, see {@link ExtWebElementImpl#setResolver(Supplier)}
+     * @return wrapper instance
+     * @throws Throwable thrown by the wrapper constructor
+     */
+    Object wrap(final WebDriver driver, final WebElement element, final By by, final ElementLocator locator,
+                final Supplier<WebElement> resolver) throws Throwable {
+        final Object wrapper = (Object) constructor.invokeExact(driver, element, by, locator);
+        if (wrapper instanceof ExtWebElementImpl) {
+            ((ExtWebElementImpl) wrapper).setResolver(resolver);
+        }
+        return wrapper;
+    }
+
+    /**
+     * Method to tell the wrappers locate a stale element again themselves, see {@link #wrap}
+     *
+     * @return true if the wrapper type extends {@link ExtWebElementImpl}
+     */
+    boolean isRecovering() {
+        return recovering;
+    }
+
+    /**
+     * Method to read the {@link By} of a locator, such as {@link org.openqa.selenium.support.pagefactory.DefaultElementLocator}
+     *
+     * @param locator element locator
+     * @return {@link By} of the locator
+     */
+    static By byOf(final ElementLocator locator) {
+        if (locator instanceof CachingElementLocator) {
+            return byOf(((CachingElementLocator) locator).getDelegate());
+        }
+        final MethodHandle getter = BY_GETTERS.get(locator.getClass());
+        if (getter == null) {
+            throw new CoreException("Failed to obtain element locator - " + locator.toString());
+        }
+        try {
+            return (By) getter.invokeExact(locator);
+        } catch (final Throwable e) {
+            throw new CoreException("Failed to obtain element locator - " + locator.toString(), e);
+        }
+    }
+
+    /**
+     * Method to invoke a proxied method on its target. Exceptions thrown by the target are rethrown as is.
+     *
+     * @param method method to invoke
+     * @param target receiver
+     * @param args   arguments, null for none
+     * @return return value of the method
+     * @throws Throwable thrown by the target
+     */
+    static Object dispatch(final Method method, final Object target, final Object[] args) throws Throwable {
+        MethodHandle invoker = INVOKERS.get(method);
+        if (invoker == null) {
+            invoker = INVOKERS.computeIfAbsent(method, InvocationPlan::invokerFor);
+        }
+        final Object[] arguments = args == null ? NO_ARGS : args;
+        return (Object) invoker.invokeExact(target, arguments);
+    }
+
+    private static MethodHandle invokerFor(final Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(SPREAD_INVOKER);
+        } catch (final IllegalAccessException e) {
+            throw new CoreException("Failed to access " + method, e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.automation.core.factory;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of located elements which creates the wrapper of an element only when it is accessed.
+ * {@link #size()} and {@link #isEmpty()} never create wrappers, {@link #get(int)} creates the requested one only.
+ */
+final class LazyElementList extends AbstractList<Object> implements RandomAccess {
+
+    private final List<WebElement> elements;
+    private final List<Object> wrappers;
+    private final InvocationPlan plan;
+    private final WebDriver driver;
+    private final By by;
+    private final ElementLocator locator;
+
+    LazyElementList(final List<WebElement> elements, final InvocationPlan plan, final WebDriver driver,
+                    final By by, final ElementLocator locator) {
+        this.elements = new ArrayList<>(elements);
+        this.wrappers = new ArrayList<>(elements.size());
+        for (int index = 0; index < elements.size(); index++) {
+            wrappers.add(null);
+        }
+        this.plan = plan;
+        this.driver = driver;
+        this.by = by;
+        this.locator = locator;
+    }
+
+    @Override
+    public Object get(final int index) {
+        Object wrapper = wrappers.get(index);
+        if (wrapper == null) {
+            try {
+                wrapper = plan.wrap(driver, elements.get(index), by, locator, () -> relocate(index));
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            wrappers.set(index, wrapper);
+        }
+        return wrapper;
+    }
+
+    /**
+     * Method to locate a stale element of the list again by its position, bypassing the element cache
+     */
+    private WebElement relocate(final int index) {
+        if (locator instanceof CachingElementLocator) {
+            ((CachingElementLocator) locator).invalidate();
+        }
+        final List<WebElement> found = locator.findElements();
+        if (index >= found.size()) {
+            throw new NoSuchElementException("Element " + index + " of the list is gone - " + locator);
+        }
+        return found.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public Object set(final int index, final Object element) {
+        final Object previous = get(index);
+        elements.set(index, null);
+        wrappers.set(index, element);
+        return previous;
+    }
+
+    @Override
+    public void add(final int index, final Object element) {
+        elements.add(index, null);
+        wrappers.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public Object remove(final int index) {
+        final Object previous = get(index);
+        elements.remove(index);
+        wrappers.remove(index);
+        modCount++;
+        return previous;
+    }
+}
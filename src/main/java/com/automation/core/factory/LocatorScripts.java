@@ -0,0 +1,91 @@
+package com.automation.core.factory;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ByIdOrName;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Script snippets shared by the scripts which locate and check elements inside the browser, see
+ * {@link PageSnapshot} and {@link com.automation.core.wait.DomWatcher}.
+ * <p>
+ * Only locators the browser can resolve exactly like the driver are supported: css selector, xpath, id, name,
+ * class name, tag name, and id or name for fields without annotation.
+ */
+public final class LocatorScripts {
+
+    /**
+     * Declares {@code isDisplayed(element)}: connected, not hidden by style and with a box of some size. Close to but
+     * not identical with {@link org.openqa.selenium.WebElement#isDisplayed()}.
+     */
+    public static final String IS_DISPLAYED = "function isDisplayed(e) {\n" +
+            "  if (!e.isConnected) { return false; }\n" +
+            "  var style = window.getComputedStyle(e);\n" +
+            "  if (style.display === 'none' || style.visibility === 'hidden' || style.visibility === 'collapse' || parseFloat(style.opacity) === 0) { return false; }\n" +
+            "  var r = e.getBoundingClientRect();\n" +
+            "  return r.width > 0 && r.height > 0;\n" +
+            "}\n";
+
+    /**
+     * Declares {@code findAll(using, value)} returning the matching elements in document order, or null for an
+     * unsupported locator. The arguments are the ones returned by {@link #queryOf(By)}.
+     */
+    public static final String FIND_ALL = "function css(selector) { return Array.prototype.slice.call(document.querySelectorAll(selector)); }\n" +
+            "function findAll(using, value) {\n" +
+            "  switch (using) {\n" +
+            "    case 'css selector': case 'tag name': return css(value);\n" +
+            "    case 'id': return css('#' + CSS.escape(value));\n" +
+            "    case 'class': case 'class name': return css('.' + CSS.escape(value));\n" +
+            "    case 'name': return css('*[name=\"' + value.replace(/([\"\\\\])/g, '\\\\$1') + '\"]');\n" +
+            "    case 'id or name': var byId = findAll('id', value); return byId.length ? byId : findAll('name', value);\n" +
+            "    case 'xpath':\n" +
+            "      var r = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), found = [];\n" +
+            "      for (var n = 0; n < r.snapshotLength; n++) { if (r.snapshotItem(n).nodeType === 1) { found.push(r.snapshotItem(n)); } }\n" +
+            "      return found;\n" +
+            "  }\n" +
+            "  return null;\n" +
+            "}\n";
+
+    private LocatorScripts() {
+    }
+
+    /**
+     * Method to translate a locator into the arguments of {@code findAll}
+     *
+     * @param by locator
+     * @return {@code [using, value]} or null if the locator cannot be resolved by the script
+     */
+    public static List<Object> queryOf(final By by) {
+        if (!(by instanceof By.Remotable)) {
+            return null;
+        }
+        final By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        switch (parameters.using()) {
+            case "css selector":
+            case "xpath":
+            case "id":
+            case "name":
+            case "class":
+            case "class name":
+            case "tag name":
+                return Arrays.asList(parameters.using(), String.valueOf(parameters.value()));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Method to translate the locator of a page field into the arguments of {@code findAll}
+     *
+     * @param by        locator of the field
+     * @param fieldName name of the field, the value of the default {@link ByIdOrName} locator
+     * @return {@code [using, value]} or null if the locator cannot be resolved by the script
+     */
+    static List<Object> queryOf(final By by, final String fieldName) {
+        if (by instanceof ByIdOrName) {
+            return Arrays.asList("id or name", fieldName);
+        }
+        return queryOf(by);
+    }
+}
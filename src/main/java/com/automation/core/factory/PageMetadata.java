@@ -0,0 +1,149 @@
+package com.automation.core.factory;
+
+import com.automation.core.base.ExtWebElement;
+import com.automation.core.base.ExtWebElementImpl;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decoration metadata of a page class, parsed once per class.
+ * <p>
+ * The class hierarchy is walked in the order used by {@link org.openqa.selenium.support.PageFactory} and for every
+ * decoratable field the parsed {@link By}, the {@code @CacheLookup} flag, the wrapped interface and the list flag are
+ * kept. Initializing another instance of the page only creates the locators and handlers bound to the driver.
+ */
+final class PageMetadata {
+
+    private static final ClassValue<PageMetadata> PAGES = new ClassValue<PageMetadata>() {
+        @Override
+        protected PageMetadata computeValue(final Class<?> pageType) {
+            return new PageMetadata(pageType);
+        }
+    };
+
+    private final ClassLoader loader;
+    private final List<FieldMetadata> fields;
+
+    private PageMetadata(final Class<?> pageType) {
+        final List<FieldMetadata> found = new ArrayList<>();
+        Class<?> type = pageType;
+        while (type != null && type != Object.class) {
+            for (final Field field : type.getDeclaredFields()) {
+                final FieldMetadata metadata = FieldMetadata.of(field);
+                if (metadata != null) {
+                    found.add(metadata);
+                }
+            }
+            type = type.getSuperclass();
+        }
+        this.loader = pageType.getClassLoader();
+        this.fields = Collections.unmodifiableList(found);
+    }
+
+    /**
+     * Method to get the metadata of a page class
+     *
+     * @param pageType page class
+     * @return cached metadata
+     */
+    static PageMetadata of(final Class<?> pageType) {
+        return PAGES.get(pageType);
+    }
+
+    /**
+     * @return class loader of the page class, used for the element proxies
+     */
+    ClassLoader getLoader() {
+        return loader;
+    }
+
+    /**
+     * @return decoratable fields of the page and its super classes
+     */
+    List<FieldMetadata> getFields() {
+        return fields;
+    }
+
+    /**
+     * Parsed annotations of a single decoratable field. Handed to the locator in place of
+     * {@link Annotations} so the annotations are not read again.
+     */
+    static final class FieldMetadata extends AbstractAnnotations {
+        private final Field field;
+        private final Class<?> elementType;
+        private final boolean list;
+        private volatile By by;
+        private boolean lookupCached;
+
+        private FieldMetadata(final Field field, final Class<?> elementType, final boolean list) {
+            field.setAccessible(true);
+            this.field = field;
+            this.elementType = elementType;
+            this.list = list;
+        }
+
+        /**
+         * Method to parse a field, mirrors the checks of {@link ElementDecorator#decorate(ClassLoader, Field)}
+         *
+         * @param field page field
+         * @return metadata or null when the field is not decorated
+         */
+        static FieldMetadata of(final Field field) {
+            if (field.getDeclaringClass() == ExtWebElementImpl.class) {
+                return null;
+            }
+            final Class<?> fieldType = field.getType();
+            if (WebElement.class.equals(fieldType)) {
+                return new FieldMetadata(field, ExtWebElement.class, false);
+            }
+            if (WebElement.class.isAssignableFrom(fieldType)) {
+                return new FieldMetadata(field, fieldType, false);
+            }
+            if (ElementDecorator.isDecoratableList(field)) {
+                return new FieldMetadata(field, ElementDecorator.getErasureClass(field), true);
+            }
+            return null;
+        }
+
+        /**
+         * The annotations are parsed on first use, so with lazy initialization a field that is never used is
+         * never parsed.
+         */
+        @Override
+        public By buildBy() {
+            By parsed = by;
+            if (parsed == null) {
+                final Annotations annotations = new Annotations(field);
+                parsed = annotations.buildBy();
+                lookupCached = annotations.isLookupCached();
+                by = parsed;
+            }
+            return parsed;
+        }
+
+        @Override
+        public boolean isLookupCached() {
+            buildBy();
+            return lookupCached;
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        Class<?> getElementType() {
+            return elementType;
+        }
+
+        boolean isList() {
+            return list;
+        }
+    }
+}
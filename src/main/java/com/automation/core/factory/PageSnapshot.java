@@ -0,0 +1,213 @@
+package com.automation.core.factory;
+
+import com.automation.core.driver.DriverContext;
+import com.automation.core.exceptions.CoreException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Presence and visibility of all the decorated fields of a page, resolved in the browser with a single script call.
+ * <p>
+ * Fields located by css selector, xpath, id, name, class name or tag name (and fields without annotation, located
+ * by id or name) are resolved. Other locators, e.g. {@link org.openqa.selenium.support.FindBys} or link text, are
+ * reported by {@link #getUnresolvedFields()} and keep being located on use.
+ * <p>
+ * With element caching enabled ({@code core.element.cache=true}) the elements found for a field are stored in its
+ * {@link CachingElementLocator}, so the next call on that field does not locate them again.
+ */
+public final class PageSnapshot {
+
+    private static final String JSRESOLVE = "var queries = arguments[0], results = [];\n" +
+            LocatorScripts.IS_DISPLAYED +
+            LocatorScripts.FIND_ALL +
+            "for (var i = 0; i < queries.length; i++) {\n" +
+            "  var q = queries[i], all;\n" +
+            "  try { all = findAll(q[0], q[1]); } catch (err) { all = null; }\n" +
+            "  if (all === null) { results.push(null); continue; }\n" +
+            "  var visible = 0;\n" +
+            "  for (var v = 0; v < (q[2] ? all.length : Math.min(all.length, 1)); v++) { if (isDisplayed(all[v])) { visible++; } }\n" +
+            "  results.push({elements: q[2] ? all : all.slice(0, 1), count: q[2] ? all.length : Math.min(all.length, 1), visible: visible});\n" +
+            "}\n" +
+            "return results;";
+
+    private final Map<String, int[]> states;
+    private final Set<String> unresolved;
+
+    private PageSnapshot(final Map<String, int[]> states, final Set<String> unresolved) {
+        this.states = Collections.unmodifiableMap(states);
+        this.unresolved = Collections.unmodifiableSet(unresolved);
+    }
+
+    /**
+     * Method to resolve the decorated fields of a page initialized by {@link ExtendedPageFactory}
+     *
+     * @param driver {@link WebDriver} the page was initialized with
+     * @param page   page object
+     * @return state of the fields
+     */
+    @SuppressWarnings("unchecked")
+    public static PageSnapshot capture(final WebDriver driver, final Object page) {
+        final List<PageMetadata.FieldMetadata> queried = new ArrayList<>();
+        final List<Object> queries = new ArrayList<>();
+        final Set<String> unresolved = new LinkedHashSet<>();
+        for (final PageMetadata.FieldMetadata field : PageMetadata.of(page.getClass()).getFields()) {
+            final List<Object> query = queryOf(field);
+            if (query == null) {
+                unresolved.add(field.getField().getName());
+            } else {
+                queried.add(field);
+                queries.add(query);
+            }
+        }
+
+        final Map<String, int[]> states = new LinkedHashMap<>();
+        if (!queries.isEmpty()) {
+            final List<Object> results = (List<Object>) executor(driver).executeScript(JSRESOLVE, queries);
+            for (int i = 0; i < queried.size(); i++) {
+                final PageMetadata.FieldMetadata field = queried.get(i);
+                final String name = field.getField().getName();
+                final Map<String, Object> result = (Map<String, Object>) results.get(i);
+                if (result == null) {
+                    unresolved.add(name);
+                    continue;
+                }
+                states.putIfAbsent(name, new int[]{intOf(result.get("count")), intOf(result.get("visible"))});
+                seed(field, page, (List<WebElement>) result.get("elements"));
+            }
+        }
+        unresolved.removeAll(states.keySet());
+        return new PageSnapshot(states, unresolved);
+    }
+
+    /**
+     * @param field name of the page field
+     * @return true if at least one element was found for the field
+     */
+    public boolean isPresent(final String field) {
+        return state(field)[0] > 0;
+    }
+
+    /**
+     * @param field name of the page field
+     * @return true if the element, or for a list at least one of its elements, is displayed
+     */
+    public boolean isVisible(final String field) {
+        return state(field)[1] > 0;
+    }
+
+    /**
+     * @param field name of the page field
+     * @return number of elements found, at most 1 for a single element field
+     */
+    public int getCount(final String field) {
+        return state(field)[0];
+    }
+
+    /**
+     * @param field name of the page field
+     * @return number of displayed elements, at most 1 for a single element field
+     */
+    public int getVisibleCount(final String field) {
+        return state(field)[1];
+    }
+
+    /**
+     * @return names of the resolved fields
+     */
+    public Set<String> getFieldNames() {
+        return states.keySet();
+    }
+
+    /**
+     * @return names of the fields whose locator cannot be resolved by the snapshot script
+     */
+    public Set<String> getUnresolvedFields() {
+        return unresolved;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("PageSnapshot{");
+        for (final Map.Entry<String, int[]> entry : states.entrySet()) {
+            builder.append(entry.getKey()).append('=').append(entry.getValue()[0]).append('/').append(entry.getValue()[1]).append(", ");
+        }
+        return builder.append("unresolved=").append(unresolved).append('}').toString();
+    }
+
+    private int[] state(final String field) {
+        final int[] state = states.get(field);
+        if (state == null) {
+            throw new CoreException("Field " + field + " was not resolved by the page snapshot");
+        }
+        return state;
+    }
+
+    private static List<Object> queryOf(final PageMetadata.FieldMetadata field) {
+        final List<Object> query = LocatorScripts.queryOf(field.buildBy(), field.getField().getName());
+        return query == null ? null : Arrays.asList(query.get(0), query.get(1), field.isList());
+    }
+
+    private static void seed(final PageMetadata.FieldMetadata field, final Object page, final List<WebElement> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        final ElementLocator locator = locatorOf(field, page);
+        if (!(locator instanceof CachingElementLocator)) {
+            return;
+        }
+        if (field.isList()) {
+            ((CachingElementLocator) locator).seedAll(elements);
+        } else {
+            ((CachingElementLocator) locator).seed(elements.get(0));
+        }
+    }
+
+    private static ElementLocator locatorOf(final PageMetadata.FieldMetadata field, final Object page) {
+        final Object value;
+        try {
+            value = field.getField().get(page);
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+        if (value instanceof ElementDelegate) {
+            return ((ElementDelegate) value).getHandler().getLocator();
+        }
+        if (value instanceof ElementListDelegate) {
+            return ((ElementListDelegate<?>) value).getHandler().getLocator();
+        }
+        if (value != null && Proxy.isProxyClass(value.getClass())) {
+            final Object handler = Proxy.getInvocationHandler(value);
+            if (handler instanceof ElementHandler) {
+                return ((ElementHandler) handler).getLocator();
+            }
+            if (handler instanceof ElementListHandler) {
+                return ((ElementListHandler) handler).getLocator();
+            }
+        }
+        return null;
+    }
+
+    private static JavascriptExecutor executor(final WebDriver driver) {
+        final JavascriptExecutor executor = DriverContext.executor(driver);
+        if (executor == null) {
+            throw new CoreException("Unable to run scripts with driver " + driver);
+        }
+        return executor;
+    }
+
+    private static int intOf(final Object number) {
+        return number == null ? 0 : ((Number) number).intValue();
+    }
+}
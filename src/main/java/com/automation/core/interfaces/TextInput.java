@@ -53,6 +53,17 @@ public interface TextInput extends ExtWebElement {
      */
     void scrollAndSet(String text);
 
+    /**
+     * Method to replace the value of a text field in a single script call, setting it through the native value
+     * setter and firing the input, change and blur events, so React and Vue bound fields take it. Fields which are
+     * not plain text inputs or text areas, not editable, or which change the value, e.g. input masks, are cleared
+     * and typed into instead.
+     *
+     * @param text text to set
+     * @see TextInputImpl#fastSet(String)
+     */
+    void fastSet(String text);
+
     /**
      * @see org.openqa.selenium.WebElement#getText()
      */
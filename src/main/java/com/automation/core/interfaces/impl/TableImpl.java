@@ -70,7 +70,7 @@ public class TableImpl extends ExtWebElementImpl implements Table {
 
     @Override
     public void clickCell(final int row, final int column) {
-        getCell(row, column).waitUntilClickable().click();
+        getCell(row, column).click();
     }
 
 }
@@ -1,25 +1,52 @@
 package com.automation.core.interfaces.impl;
 
 import com.automation.core.base.ExtWebElementImpl;
+import com.automation.core.base.TypingEngine;
 import com.automation.core.driver.CoreIOSDriver;
+import com.automation.core.driver.DriverContext;
+import com.automation.core.factory.LocatorScripts;
 import com.automation.core.interfaces.TextInput;
 import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.log.ActionLog;
+import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
-import java.util.Arrays;
-import java.util.stream.IntStream;
-
 /**
  * Wraps default {@link WebElement} with more custom methods
  *
  * @see ExtWebElementImpl
  * @see TextInput
  */
+@Slf4j
 public class TextInputImpl extends ExtWebElementImpl implements TextInput {
 
+    private static final String SET = "set";
+
+    /**
+     * Sets the value through the native setter of the prototype, so the value tracker of React sees the change, and
+     * fires the events frameworks listen to. Returns 'set' when the field kept the value, else why keys are needed.
+     */
+    private static final String JSFASTSET = "var e = arguments[0], text = arguments[1];\n" +
+            LocatorScripts.IS_DISPLAYED +
+            "var proto = e instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype\n" +
+            "  : e instanceof HTMLInputElement ? HTMLInputElement.prototype : null;\n" +
+            "if (!proto || /^(file|checkbox|radio|button|submit|image|reset|hidden)$/.test(e.type)) { return 'not a text field'; }\n" +
+            "if (!isDisplayed(e) || e.disabled || e.readOnly) { return 'not editable'; }\n" +
+            "var setter = Object.getOwnPropertyDescriptor(proto, 'value').set;\n" +
+            "e.focus();\n" +
+            "setter.call(e, text);\n" +
+            "e.dispatchEvent(new Event('input', {bubbles: true}));\n" +
+            "e.dispatchEvent(new Event('change', {bubbles: true}));\n" +
+            "var value = e.value;\n" +
+            "e.blur();\n" +
+            "return value === text ? 'set' : 'value changed to ' + value;";
+
     WebElement element;
     WebDriver driver;
 
@@ -46,10 +73,7 @@ public class TextInputImpl extends ExtWebElementImpl implements TextInput {
 
     @Override
     public void setKeybyKey(final String textToSet) {
-        Arrays.stream(textToSet.split("")).forEach(str -> {
-            super.sendKeys(str);
-            Sleeper.sleep(200);
-        });
+        super.sendKeybyKey(textToSet);
         if (driver instanceof CoreIOSDriver) {
             super.refresh();
             Sleeper.sleep(3000);
@@ -63,28 +87,24 @@ public class TextInputImpl extends ExtWebElementImpl implements TextInput {
         }
     }
 
+    /**
+     * Types the text in one go, pausing only after each of the last three keys
+     *
+     * @param textToSet text to set
+     */
     @Override
     public void setandRefresh(final String textToSet) {
-        final String[] text = textToSet.split("");
-        final int waitLength = text.length - 3;
-        IntStream.range(0, text.length).forEach(index -> {
-            super.sendKeys(text[index]);
-            if (index >= waitLength) {
-                Sleeper.sleep(200);
-            }
-            if (driver instanceof CoreIOSDriver)
-                super.refresh();
-        });
+        final int waitLength = textToSet.length() - 3;
+        super.type(textToSet, index -> index >= waitLength ? TypingEngine.DEFAULT_DELAY : 0);
+        if (driver instanceof CoreIOSDriver)
+            super.refresh();
     }
 
     @Override
     public void setKeybyKey(final long timegap, final String textToSet) {
-        Arrays.stream(textToSet.split("")).forEach(str -> {
-            super.sendKeys(str);
-            Sleeper.sleep(timegap);
-            if (driver instanceof CoreIOSDriver)
-                super.refresh();
-        });
+        super.sendKeybyKey(timegap, textToSet);
+        if (driver instanceof CoreIOSDriver)
+            super.refresh();
     }
 
     @Override
@@ -93,4 +113,33 @@ public class TextInputImpl extends ExtWebElementImpl implements TextInput {
         super.sendKeys(text);
         super.refresh();
     }
+
+    /**
+     * Sets the value in one script call when the field takes it as is, see {@link TextInput#fastSet(String)}
+     *
+     * @param text text to set
+     */
+    @Override
+    public void fastSet(final String text) {
+        final JavascriptExecutor executor = DriverContext.executor(getDriver());
+        Object result = null;
+        if (executor != null) {
+            try {
+                result = withRecovery(() -> executor.executeScript(JSFASTSET, getElement(), text));
+            } catch (final StaleElementReferenceException e) {
+                throw e;
+            } catch (final WebDriverException e) {
+                log.debug("Fast set is not possible in this session: {}", e.getMessage());
+            }
+        }
+        if (SET.equals(result)) {
+            ActionLog.info("Fast set { {} } to the textbox with { {} }", text, locator);
+            return;
+        }
+        ActionLog.debug("Fast set { {} } fell back to keystrokes: {}", text, result);
+        super.clear();
+        super.sendKeys(text);
+        if (driver instanceof CoreIOSDriver)
+            super.refresh();
+    }
 }
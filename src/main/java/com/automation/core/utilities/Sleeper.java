@@ -1,18 +1,42 @@
 package com.automation.core.utilities;
 
-import org.apache.commons.lang3.time.StopWatch;
+import com.automation.core.utilities.clock.Clock;
+import com.automation.core.utilities.clock.SystemClock;
+import com.automation.core.utilities.metrics.SleepAccounting;
 
 /**
  * Sleeper class for the code to sleep
+ * <p>
+ * Pauses are delegated to a pluggable {@link Clock}. The default {@link SystemClock} parks the thread,
+ * a {@link com.automation.core.utilities.clock.VirtualClock} can be installed to run sleep heavy code instantly.
+ * Every pause is accounted in {@link SleepAccounting}.
  */
 public class Sleeper {
+
+    private static volatile Clock clock = SystemClock.INSTANCE;
+
     public static void sleep(final long millis) {
-        final StopWatch stopwatch = new StopWatch();
-        stopwatch.start();
-        do {
+        if (millis > 0) {
+            SleepAccounting.record(millis);
+        }
+        clock.sleep(millis);
+    }
+
+    /**
+     * Method to return the clock used for sleeping
+     *
+     * @return current {@link Clock}
+     */
+    public static Clock getClock() {
+        return clock;
+    }
 
-        } while (stopwatch.getTime() < millis);
-        stopwatch.stop();
-        stopwatch.reset();
+    /**
+     * Method to replace the clock used for sleeping
+     *
+     * @param newClock {@link Clock} to use, null restores the {@link SystemClock}
+     */
+    public static void setClock(final Clock newClock) {
+        clock = newClock == null ? SystemClock.INSTANCE : newClock;
     }
 }
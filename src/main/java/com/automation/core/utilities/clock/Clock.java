@@ -0,0 +1,28 @@
+package com.automation.core.utilities.clock;
+
+/**
+ * Source of time used by {@link com.automation.core.utilities.Sleeper} and the waits built on top of it
+ */
+public interface Clock {
+
+    /**
+     * Method to return the current time
+     *
+     * @return current time in millis
+     */
+    long currentTimeMillis();
+
+    /**
+     * Method to return a monotonic time stamp, only meaningful as a difference of two calls
+     *
+     * @return time stamp in nanos
+     */
+    long nanoTime();
+
+    /**
+     * Method to pause the calling thread
+     *
+     * @param millis time to pause in millis
+     */
+    void sleep(long millis);
+}
@@ -0,0 +1,47 @@
+package com.automation.core.utilities.clock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wall clock implementation of {@link Clock}. Pauses park the calling thread instead of spinning,
+ * so a sleeping test does not hold on to a CPU core.
+ */
+public final class SystemClock implements Clock {
+
+    public static final SystemClock INSTANCE = new SystemClock();
+
+    private SystemClock() {
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Parks until the given time has elapsed. Spurious wake ups are parked again, an interrupt ends
+     * the pause early and is left set on the thread for the caller to see.
+     *
+     * @param millis time to pause in millis
+     */
+    @Override
+    public void sleep(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+}
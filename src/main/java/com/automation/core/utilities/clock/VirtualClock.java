@@ -0,0 +1,66 @@
+package com.automation.core.utilities.clock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Virtual time implementation of {@link Clock}. Pauses return immediately and move the clock forward,
+ * so sleep heavy code paths can be exercised without actually waiting.
+ */
+public class VirtualClock implements Clock {
+
+    private final AtomicLong nanos;
+    private final long epochMillis;
+
+    /**
+     * Creates a virtual clock starting at the current wall clock time
+     */
+    public VirtualClock() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a virtual clock starting at the given time
+     *
+     * @param epochMillis start time in millis
+     */
+    public VirtualClock(final long epochMillis) {
+        this.epochMillis = epochMillis;
+        this.nanos = new AtomicLong();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return epochMillis + TimeUnit.NANOSECONDS.toMillis(nanos.get());
+    }
+
+    @Override
+    public long nanoTime() {
+        return nanos.get();
+    }
+
+    @Override
+    public void sleep(final long millis) {
+        advance(millis);
+    }
+
+    /**
+     * Method to move the clock forward
+     *
+     * @param millis time to move forward in millis
+     */
+    public void advance(final long millis) {
+        if (millis > 0) {
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+
+    /**
+     * Method to return the total virtual time elapsed since the clock was created
+     *
+     * @return elapsed time in millis
+     */
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos.get());
+    }
+}
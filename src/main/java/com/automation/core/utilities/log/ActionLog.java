@@ -0,0 +1,241 @@
+package com.automation.core.utilities.log;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Keys;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Log of the element and page actions of the current thread.
+ * <p>
+ * An event is a message template with {@code {}} placeholders and up to three arguments, e.g.
+ * {@code ActionLog.debug("Element text is { {} } with { {} }", text, locator)}. Events below the level set with
+ * {@code core.log.level} (TRACE, DEBUG, INFO or OFF, default INFO) are dropped on the spot. Enabled events are handed
+ * unformatted to an {@link ActionLogSink}, chosen with {@code core.log.sink}:
+ * <ul>
+ * <li>{@code file}, the default: {@link AsyncFileSink} streams every event to a file per scenario</li>
+ * <li>{@code reporter}: {@link ReporterSink} keeps the last events of the scenario and writes them to the TestNG
+ * Reporter when the scenario failed</li>
+ * </ul>
+ * The sinks learn about the scenarios from the hooks of the consumer:
+ * <pre>
+ * &#64;Before public void before(Scenario scenario) { ScenarioContext.set(scenario.getName()); ActionLog.begin(); }
+ * &#64;After public void after(Scenario scenario) { ActionLog.end(scenario.isFailed()); }
+ * </pre>
+ * An argument which is an array of {@link CharSequence} is formatted like keys sent to an element.
+ */
+public final class ActionLog {
+
+    /**
+     * Level of an event
+     */
+    public enum Level {
+        TRACE, DEBUG, INFO, OFF
+    }
+
+    private static final Level LEVEL = Level.valueOf(System.getProperty("core.log.level", "INFO").toUpperCase(Locale.ROOT));
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static volatile ActionLogSink sink = "reporter".equalsIgnoreCase(System.getProperty("core.log.sink", "file"))
+            ? new ReporterSink() : new AsyncFileSink();
+
+    private ActionLog() {
+    }
+
+    /**
+     * @param level level of an event
+     * @return true if events of the level are kept
+     */
+    public static boolean isEnabled(final Level level) {
+        return level != Level.OFF && level.compareTo(LEVEL) >= 0;
+    }
+
+    /**
+     * Method to log an action, e.g. a click or a navigation
+     *
+     * @param message message
+     */
+    public static void info(final String message) {
+        if (isEnabled(Level.INFO)) {
+            sink.accept(System.currentTimeMillis(), Level.INFO, message, 0, null, null, null);
+        }
+    }
+
+    /**
+     * Method to log an action, the template is only formatted when the buffer is dumped
+     *
+     * @param template message with a {@code {}} placeholder
+     * @param arg      argument of the placeholder
+     */
+    public static void info(final String template, final Object arg) {
+        if (isEnabled(Level.INFO)) {
+            sink.accept(System.currentTimeMillis(), Level.INFO, template, 1, arg, null, null);
+        }
+    }
+
+    public static void info(final String template, final Object arg1, final Object arg2) {
+        if (isEnabled(Level.INFO)) {
+            sink.accept(System.currentTimeMillis(), Level.INFO, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public static void info(final String template, final Object arg1, final Object arg2, final Object arg3) {
+        if (isEnabled(Level.INFO)) {
+            sink.accept(System.currentTimeMillis(), Level.INFO, template, 3, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Method to log a detail, e.g. a value read from an element
+     *
+     * @param message message
+     */
+    public static void debug(final String message) {
+        if (isEnabled(Level.DEBUG)) {
+            sink.accept(System.currentTimeMillis(), Level.DEBUG, message, 0, null, null, null);
+        }
+    }
+
+    /**
+     * Method to log a detail, the template is only formatted when the buffer is dumped
+     *
+     * @param template message with a {@code {}} placeholder
+     * @param arg      argument of the placeholder
+     */
+    public static void debug(final String template, final Object arg) {
+        if (isEnabled(Level.DEBUG)) {
+            sink.accept(System.currentTimeMillis(), Level.DEBUG, template, 1, arg, null, null);
+        }
+    }
+
+    public static void debug(final String template, final Object arg1, final Object arg2) {
+        if (isEnabled(Level.DEBUG)) {
+            sink.accept(System.currentTimeMillis(), Level.DEBUG, template, 2, arg1, arg2, null);
+        }
+    }
+
+    public static void debug(final String template, final Object arg1, final Object arg2, final Object arg3) {
+        if (isEnabled(Level.DEBUG)) {
+            sink.accept(System.currentTimeMillis(), Level.DEBUG, template, 3, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Method to log a step of an action, e.g. a lookup
+     *
+     * @param template message with a {@code {}} placeholder
+     * @param arg      argument of the placeholder
+     */
+    public static void trace(final String template, final Object arg) {
+        if (isEnabled(Level.TRACE)) {
+            sink.accept(System.currentTimeMillis(), Level.TRACE, template, 1, arg, null, null);
+        }
+    }
+
+    /**
+     * Method to mark the start of the scenario of the current thread, e.g. from a {@code @Before} hook
+     */
+    public static void begin() {
+        sink.begin();
+    }
+
+    /**
+     * Method to mark the end of the scenario of the current thread, e.g. from an {@code @After} hook
+     *
+     * @param failed true if the scenario failed
+     */
+    public static void end(final boolean failed) {
+        sink.end(failed);
+    }
+
+    /**
+     * @return sink the events are sent to
+     */
+    public static ActionLogSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Method to replace the sink the events are sent to, e.g. with a {@link ReporterSink}
+     *
+     * @param actionLogSink sink of the events
+     */
+    public static void setSink(final ActionLogSink actionLogSink) {
+        sink = Objects.requireNonNull(actionLogSink, "sink");
+    }
+
+    /**
+     * Method to format an event, replacing the {@code {}} placeholders with the arguments
+     *
+     * @param millis   epoch millis of the event
+     * @param level    level of the event
+     * @param template message template
+     * @param argc     number of arguments
+     * @param arg1     first argument
+     * @param arg2     second argument
+     * @param arg3     third argument
+     * @return formatted line
+     */
+    public static String format(final long millis, final Level level, final String template, final int argc,
+                         final Object arg1, final Object arg2, final Object arg3) {
+        final StringBuilder line = new StringBuilder(template.length() + 48)
+                .append(TIME.format(Instant.ofEpochMilli(millis))).append(' ').append(level).append(' ');
+        int from = 0;
+        for (int index = 0; index < argc; index++) {
+            final int at = template.indexOf("{}", from);
+            if (at < 0) {
+                break;
+            }
+            line.append(template, from, at);
+            render(line, index == 0 ? arg1 : index == 1 ? arg2 : arg3);
+            from = at + 2;
+        }
+        return line.append(template, from, template.length()).toString();
+    }
+
+    /**
+     * Method to fix an argument kept by a sink for formatting later, possibly on another thread. Only known immutable
+     * values are kept as is; anything else is rendered now, on the thread of the scenario, since it may change or its
+     * {@code toString()} may call the driver, e.g. a page object element locating itself.
+     *
+     * @param arg argument of an event
+     * @return the argument if it is immutable, otherwise its rendering
+     */
+    public static Object snapshot(final Object arg) {
+        if (arg == null || arg instanceof String || arg instanceof Boolean || arg instanceof Character
+            || arg instanceof Enum || arg instanceof By || arg instanceof Duration || isImmutableNumber(arg)) {
+            return arg;
+        }
+        final StringBuilder rendered = new StringBuilder();
+        render(rendered, arg);
+        return rendered.toString();
+    }
+
+    private static boolean isImmutableNumber(final Object arg) {
+        return arg instanceof Integer || arg instanceof Long || arg instanceof Double || arg instanceof Float
+               || arg instanceof Short || arg instanceof Byte || arg instanceof BigInteger || arg instanceof BigDecimal;
+    }
+
+    private static void render(final StringBuilder line, final Object arg) {
+        if (!(arg instanceof CharSequence[])) {
+            line.append(arg);
+            return;
+        }
+        boolean first = true;
+        for (final CharSequence key : (CharSequence[]) arg) {
+            if (key instanceof Keys) {
+                line.append(first ? "Key." : " + Key.").append(((Keys) key).name());
+            } else {
+                line.append(key);
+            }
+            first = false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.automation.core.utilities.log;
+
+/**
+ * Destination of the events of the {@link ActionLog}. Events are passed unformatted, a sink formats them with
+ * {@link ActionLog#format(long, ActionLog.Level, String, int, Object, Object, Object)} when it writes them. A sink
+ * keeping the arguments past the call passes them through {@link ActionLog#snapshot(Object)} first.
+ * <p>
+ * The methods are called on the thread running the scenario and must not block it.
+ */
+public interface ActionLogSink {
+
+    /**
+     * Method to take an event of the current thread
+     *
+     * @param millis   epoch millis of the event
+     * @param level    level of the event
+     * @param template message template
+     * @param argc     number of arguments
+     * @param arg1     first argument
+     * @param arg2     second argument
+     * @param arg3     third argument
+     */
+    void accept(long millis, ActionLog.Level level, String template, int argc, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Method called when the scenario of the current thread starts
+     */
+    default void begin() {
+    }
+
+    /**
+     * Method called when the scenario of the current thread ends
+     *
+     * @param failed true if the scenario failed
+     */
+    default void end(final boolean failed) {
+    }
+}
@@ -0,0 +1,206 @@
+package com.automation.core.utilities.log;
+
+import com.automation.core.allure.AllurePaths;
+import com.automation.core.utilities.metrics.ScenarioContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams the events to a file per scenario, {@code <scenario>.log} in {@code core.log.dir} (default
+ * {@code target/action-logs}), named after the {@link ScenarioContext} of the thread logging them.
+ * <p>
+ * The scenario threads only put the events on a queue of {@code core.log.queue} entries (default 4096); a single
+ * daemon thread formats and writes them. When the queue is full the event is dropped rather than blocking the
+ * scenario; the number dropped is written to the file of the scenario which lost them, before its next event. At
+ * most {@code core.log.files} files (default 32) are kept open, so the memory used does not grow with the number of
+ * scenarios or events.
+ * <p>
+ * Only immutable arguments of an event are formatted on the writer thread, any other argument is rendered when
+ * queued, see {@link ActionLog#snapshot(Object)}.
+ */
+@Slf4j
+public final class AsyncFileSink implements ActionLogSink {
+
+    private static final int QUEUE_SIZE = Math.max(16, Integer.getInteger("core.log.queue", 4096));
+    private static final int MAX_OPEN_FILES = Math.max(1, Integer.getInteger("core.log.files", 32));
+    private static final Entry STOP = new Entry(null, 0, null, null, 0, null, null, null);
+
+    private final Path directory;
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private final Map<String, AtomicLong> dropped = new ConcurrentHashMap<>();
+    private final Thread writer;
+    private final Map<String, Writer> files = new LinkedHashMap<String, Writer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Writer> eldest) {
+            if (size() > MAX_OPEN_FILES) {
+                close(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Sink writing to {@code core.log.dir}
+     */
+    public AsyncFileSink() {
+        this(Paths.get(System.getProperty("core.log.dir", AllurePaths.getReportPath() + "action-logs")));
+    }
+
+    /**
+     * @param directory directory of the scenario files
+     */
+    public AsyncFileSink(final Path directory) {
+        this.directory = directory;
+        writer = new Thread(this::run, "core-action-log");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "core-action-log-flush"));
+    }
+
+    @Override
+    public void accept(final long millis, final ActionLog.Level level, final String template, final int argc,
+                       final Object arg1, final Object arg2, final Object arg3) {
+        offer(new Entry(ScenarioContext.get(), millis, level, template, argc,
+                ActionLog.snapshot(arg1), ActionLog.snapshot(arg2), ActionLog.snapshot(arg3)));
+    }
+
+    @Override
+    public void end(final boolean failed) {
+        offer(new Entry(ScenarioContext.get(), System.currentTimeMillis(), null,
+                failed ? "Scenario failed" : "Scenario passed", 0, null, null, null));
+    }
+
+    /**
+     * Method to write the queued events and close the files, waiting for at most five seconds
+     */
+    public void stop() {
+        try {
+            if (queue.offer(STOP, 5, TimeUnit.SECONDS)) {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void offer(final Entry entry) {
+        if (!writer.isAlive() || !queue.offer(entry)) {
+            dropped.computeIfAbsent(entry.scenario, scenario -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                final Entry entry = queue.take();
+                if (entry == STOP) {
+                    break;
+                }
+                write(entry);
+                if (queue.isEmpty()) {
+                    flush();
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            files.values().forEach(this::close);
+            files.clear();
+            dropped.forEach((scenario, lost) -> log.warn("{} action log events of scenario {} were dropped, the queue was full",
+                    lost.get(), scenario));
+        }
+    }
+
+    private void write(final Entry entry) {
+        try {
+            final Writer file = open(entry.scenario);
+            final AtomicLong lost = dropped.remove(entry.scenario);
+            if (lost != null) {
+                file.write(lost.get() + " events were dropped, the action log queue was full" + System.lineSeparator());
+            }
+            if (entry.level == null) {
+                file.write(entry.template + System.lineSeparator());
+                close(files.remove(entry.scenario));
+            } else {
+                file.write(ActionLog.format(entry.millis, entry.level, entry.template, entry.argc,
+                        entry.arg1, entry.arg2, entry.arg3) + System.lineSeparator());
+            }
+        } catch (final IOException | RuntimeException e) {
+            log.warn("Action log of scenario {} could not be written: {}", entry.scenario, e.getMessage());
+        }
+    }
+
+    private Writer open(final String scenario) throws IOException {
+        Writer file = files.get(scenario);
+        if (file == null) {
+            Files.createDirectories(directory);
+            final String name = scenario.replaceAll("[^A-Za-z0-9._-]+", "_");
+            file = Files.newBufferedWriter(directory.resolve((name.length() > 120 ? name.substring(0, 120) : name) + ".log"),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            files.put(scenario, file);
+        }
+        return file;
+    }
+
+    private void flush() {
+        for (final Writer file : files.values()) {
+            try {
+                file.flush();
+            } catch (final IOException e) {
+                log.warn("Action log could not be flushed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void close(final Writer file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (final IOException e) {
+            log.warn("Action log could not be closed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * An event, or the end of a scenario when the level is null
+     */
+    private static final class Entry {
+        private final String scenario;
+        private final long millis;
+        private final ActionLog.Level level;
+        private final String template;
+        private final int argc;
+        private final Object arg1;
+        private final Object arg2;
+        private final Object arg3;
+
+        private Entry(final String scenario, final long millis, final ActionLog.Level level, final String template,
+                      final int argc, final Object arg1, final Object arg2, final Object arg3) {
+            this.scenario = scenario;
+            this.millis = millis;
+            this.level = level;
+            this.template = template;
+            this.argc = argc;
+            this.arg1 = arg1;
+            this.arg2 = arg2;
+            this.arg3 = arg3;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.automation.core.utilities.log;
+
+import org.testng.Reporter;
+
+import java.util.Arrays;
+
+/**
+ * Writes the events of a failed scenario to the TestNG {@link Reporter}.
+ * <p>
+ * TestNG keeps everything logged to the {@link Reporter} in memory for the whole run, so the events of the current
+ * scenario are first kept in a ring buffer of the last {@code core.log.buffer} events per thread (default 200). The
+ * buffer reuses its slots and the events are only formatted when the scenario failed.
+ */
+public final class ReporterSink implements ActionLogSink {
+
+    private static final int CAPACITY = Math.max(1, Integer.getInteger("core.log.buffer", 200));
+
+    private final ThreadLocal<Ring> rings = ThreadLocal.withInitial(Ring::new);
+
+    @Override
+    public void accept(final long millis, final ActionLog.Level level, final String template, final int argc,
+                       final Object arg1, final Object arg2, final Object arg3) {
+        rings.get().add(millis, level, template, argc, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void begin() {
+        rings.get().clear();
+    }
+
+    @Override
+    public void end(final boolean failed) {
+        final Ring ring = rings.get();
+        if (failed) {
+            ring.writeTo();
+        }
+        ring.clear();
+    }
+
+    /**
+     * Events of one thread, the oldest is overwritten when the buffer is full
+     */
+    private static final class Ring {
+        private final long[] times = new long[CAPACITY];
+        private final ActionLog.Level[] levels = new ActionLog.Level[CAPACITY];
+        private final String[] templates = new String[CAPACITY];
+        private final int[] argcs = new int[CAPACITY];
+        private final Object[] args = new Object[CAPACITY * 3];
+        private long written;
+
+        private void add(final long millis, final ActionLog.Level level, final String template, final int argc,
+                         final Object arg1, final Object arg2, final Object arg3) {
+            final int slot = (int) (written++ % CAPACITY);
+            times[slot] = millis;
+            levels[slot] = level;
+            templates[slot] = template;
+            argcs[slot] = argc;
+            args[slot * 3] = ActionLog.snapshot(arg1);
+            args[slot * 3 + 1] = ActionLog.snapshot(arg2);
+            args[slot * 3 + 2] = ActionLog.snapshot(arg3);
+        }
+
+        private void writeTo() {
+            final int size = (int) Math.min(written, CAPACITY);
+            if (written > size) {
+                Reporter.log((written - size) + " earlier events were not kept");
+            }
+            for (long event = written - size; event < written; event++) {
+                final int slot = (int) (event % CAPACITY);
+                Reporter.log(ActionLog.format(times[slot], levels[slot], templates[slot], argcs[slot],
+                        args[slot * 3], args[slot * 3 + 1], args[slot * 3 + 2]));
+            }
+        }
+
+        private void clear() {
+            written = 0;
+            Arrays.fill(templates, null);
+            Arrays.fill(args, null);
+        }
+    }
+}
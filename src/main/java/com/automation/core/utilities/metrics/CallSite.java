@@ -0,0 +1,58 @@
+package com.automation.core.utilities.metrics;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resolves who called into the framework, used to attribute metrics to a line of code
+ */
+public final class CallSite {
+
+    private static final String CORE_PACKAGE = "com.automation.core.";
+    private static final int MAX_DEPTH = 32;
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private CallSite() {
+    }
+
+    /**
+     * Method to describe where the current call comes from. The result holds the first frame outside of
+     * {@code skip} and, when that frame is framework code, the first frame outside of the framework,
+     * e.g. {@code Page.waitFor:96 <- CheckoutPage.pay:41}
+     *
+     * @param skip classes whose frames are not interesting, typically the caller itself
+     * @return call site description
+     */
+    public static String describe(final Class<?>... skip) {
+        final Set<String> skipped = Stream.of(skip).map(Class::getName).collect(Collectors.toSet());
+        final List<StackWalker.StackFrame> frames = WALKER.walk(stream -> stream
+                .filter(frame -> !skipped.contains(frame.getClassName()) && !isPlumbing(frame.getClassName()))
+                .limit(MAX_DEPTH)
+                .collect(Collectors.toList()));
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+        final StackWalker.StackFrame direct = frames.get(0);
+        if (!direct.getClassName().startsWith(CORE_PACKAGE)) {
+            return format(direct);
+        }
+        return frames.stream()
+                .filter(frame -> !frame.getClassName().startsWith(CORE_PACKAGE))
+                .findFirst()
+                .map(frame -> format(direct) + " <- " + format(frame))
+                .orElse(format(direct));
+    }
+
+    private static boolean isPlumbing(final String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.")
+               || className.startsWith("com.sun.proxy.") || className.contains("$Proxy")
+               || className.equals(CallSite.class.getName());
+    }
+
+    private static String format(final StackWalker.StackFrame frame) {
+        final String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+    }
+}
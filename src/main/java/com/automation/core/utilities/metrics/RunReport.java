@@ -0,0 +1,60 @@
+package com.automation.core.utilities.metrics;
+
+import com.automation.core.allure.AllurePaths;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collects the framework metric reports and writes them to the report directory when the run ends
+ */
+@Slf4j
+public final class RunReport {
+
+    private static final Map<String, Supplier<String>> REPORTS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(RunReport::writeAll, "core-run-report"));
+    }
+
+    private RunReport() {
+    }
+
+    /**
+     * Method to register a report to be written at the end of the run
+     *
+     * @param fileName file name within {@link AllurePaths#getReportPath()}
+     * @param report   supplier of the report text, null or empty text skips the file
+     */
+    public static void register(final String fileName, final Supplier<String> report) {
+        REPORTS.put(fileName, report);
+    }
+
+    /**
+     * Method to write all registered reports now
+     */
+    public static void writeAll() {
+        REPORTS.forEach(RunReport::write);
+    }
+
+    private static void write(final String fileName, final Supplier<String> report) {
+        final String text = report.get();
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        log.info("{}{}", System.lineSeparator(), text);
+        final Path path = Paths.get(AllurePaths.getReportPath(), fileName);
+        try {
+            Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.automation.core.utilities.metrics;
+
+/**
+ * Holds the name of the scenario running on the current thread, so framework metrics and logs
+ * can be attributed to it. Set it from a cucumber {@code @Before} hook and clear it in {@code @After}.
+ */
+public final class ScenarioContext {
+
+    public static final String UNKNOWN = "unknown";
+
+    private static final ThreadLocal<String> SCENARIO = new ThreadLocal<>();
+
+    private ScenarioContext() {
+    }
+
+    /**
+     * Method to set the scenario running on the current thread
+     *
+     * @param scenario scenario name
+     */
+    public static void set(final String scenario) {
+        SCENARIO.set(scenario);
+    }
+
+    /**
+     * Method to get the scenario running on the current thread
+     *
+     * @return scenario name, or {@link #UNKNOWN} if none was set
+     */
+    public static String get() {
+        final String scenario = SCENARIO.get();
+        return scenario == null ? UNKNOWN : scenario;
+    }
+
+    /**
+     * Method to clear the scenario of the current thread
+     */
+    public static void clear() {
+        SCENARIO.remove();
+    }
+}
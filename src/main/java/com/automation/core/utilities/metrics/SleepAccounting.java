@@ -0,0 +1,51 @@
+package com.automation.core.utilities.metrics;
+
+import com.automation.core.utilities.Sleeper;
+
+/**
+ * Attributes every {@link Sleeper} pause to its call site and scenario, and reports the ranked totals
+ * at the end of the run in {@code sleep-report.txt}
+ */
+public final class SleepAccounting {
+
+    private static final Tally BY_CALLER = new Tally();
+    private static final Tally BY_SCENARIO = new Tally();
+
+    static {
+        RunReport.register("sleep-report.txt", SleepAccounting::report);
+    }
+
+    private SleepAccounting() {
+    }
+
+    /**
+     * Method to account a hard sleep on the current thread
+     *
+     * @param millis requested sleep in millis
+     */
+    public static void record(final long millis) {
+        BY_CALLER.record(CallSite.describe(Sleeper.class, SleepAccounting.class), millis);
+        BY_SCENARIO.record(ScenarioContext.get(), millis);
+    }
+
+    /**
+     * Method to render the hard sleep report
+     *
+     * @return ranked report, empty if nothing slept
+     */
+    public static String report() {
+        if (BY_CALLER.isEmpty()) {
+            return "";
+        }
+        return BY_CALLER.format("Hard sleeps by caller", "ms") + System.lineSeparator()
+               + BY_SCENARIO.format("Hard sleeps by scenario", "ms");
+    }
+
+    /**
+     * Method to discard everything accounted so far
+     */
+    public static void reset() {
+        BY_CALLER.clear();
+        BY_SCENARIO.clear();
+    }
+}
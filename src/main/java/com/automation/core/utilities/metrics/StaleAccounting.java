@@ -0,0 +1,56 @@
+package com.automation.core.utilities.metrics;
+
+/**
+ * Counts the elements located again after they went stale, per call site, and the recoveries which failed because
+ * the element was gone or stayed stale. Reported at the end of the run in {@code stale-report.txt}.
+ */
+public final class StaleAccounting {
+
+    private static final Tally RECOVERED = new Tally();
+    private static final Tally FAILED = new Tally();
+
+    static {
+        RunReport.register("stale-report.txt", StaleAccounting::report);
+    }
+
+    private StaleAccounting() {
+    }
+
+    /**
+     * Method to account one attempt to locate a stale element again
+     *
+     * @param callSite  operation which hit the stale element, see {@link CallSite#describe(Class[])}
+     * @param recovered true if the element was located again
+     */
+    public static void record(final String callSite, final boolean recovered) {
+        (recovered ? RECOVERED : FAILED).record(callSite, 1);
+    }
+
+    /**
+     * Method to render the stale element report
+     *
+     * @return ranked report, empty if no element went stale
+     */
+    public static String report() {
+        if (RECOVERED.isEmpty() && FAILED.isEmpty()) {
+            return "";
+        }
+        final StringBuilder report = new StringBuilder();
+        if (!RECOVERED.isEmpty()) {
+            report.append(RECOVERED.format("Stale elements located again by caller", "times"));
+        }
+        if (!FAILED.isEmpty()) {
+            report.append(report.length() == 0 ? "" : System.lineSeparator())
+                    .append(FAILED.format("Stale elements not recovered by caller", "times"));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Method to discard everything accounted so far
+     */
+    public static void reset() {
+        RECOVERED.clear();
+        FAILED.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package com.automation.core.utilities.metrics;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe count/total/max accumulator keyed by a label, rendered as a ranked table
+ */
+public class Tally {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Method to record one occurrence
+     *
+     * @param key    label to attribute the value to
+     * @param amount value of the occurrence, e.g. millis spent
+     */
+    public void record(final String key, final long amount) {
+        entries.computeIfAbsent(key, k -> new Entry()).add(amount);
+    }
+
+    /**
+     * Method to return the sum of all recorded values
+     *
+     * @return total
+     */
+    public long total() {
+        return entries.values().stream().mapToLong(entry -> entry.total.sum()).sum();
+    }
+
+    /**
+     * Method to return the number of recorded occurrences
+     *
+     * @return count
+     */
+    public long count() {
+        return entries.values().stream().mapToLong(entry -> entry.count.sum()).sum();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Method to render the recorded values ranked by their total, highest first
+     *
+     * @param title heading of the table
+     * @param unit  unit of the recorded values, e.g. ms
+     * @return ranked table
+     */
+    public String format(final String title, final String unit) {
+        final StringBuilder table = new StringBuilder(title).append(System.lineSeparator());
+        table.append(String.format("%12s %8s %10s %10s  %s%n", "total " + unit, "count", "avg " + unit, "max " + unit, "source"));
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Entry> entry) -> entry.getValue().total.sum()).reversed())
+                .forEach(entry -> {
+                    final long count = entry.getValue().count.sum();
+                    final long total = entry.getValue().total.sum();
+                    table.append(String.format("%12d %8d %10d %10d  %s%n",
+                            total, count, count == 0 ? 0 : total / count, entry.getValue().max.get(), entry.getKey()));
+                });
+        table.append(String.format("%12d %8d %10s %10s  %s%n", total(), count(), "", "", "TOTAL"));
+        return table.toString();
+    }
+
+    private static final class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private void add(final long amount) {
+            count.increment();
+            total.add(amount);
+            max.accumulateAndGet(amount, Math::max);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.automation.core.utilities.metrics;
+
+/**
+ * Attributes the time spent in explicit waits to their call site and scenario, and reports the ranked totals,
+ * polls and timeouts at the end of the run in {@code wait-report.txt}. Lookups that failed only after the implicit
+ * wait of the driver are reported separately.
+ */
+public final class WaitAccounting {
+
+    private static final Tally BY_CALLER = new Tally();
+    private static final Tally BY_SCENARIO = new Tally();
+    private static final Tally POLLS = new Tally();
+    private static final Tally TIMEOUTS = new Tally();
+    private static final Tally IMPLICIT = new Tally();
+
+    static {
+        RunReport.register("wait-report.txt", WaitAccounting::report);
+    }
+
+    private WaitAccounting() {
+    }
+
+    /**
+     * Method to account one explicit wait on the current thread
+     *
+     * @param callSite where the wait was started, see {@link CallSite#describe(Class[])}
+     * @param millis   time spent waiting in millis
+     * @param polls    pauses taken between the checks of the condition
+     * @param timedOut true if the condition was not met in time
+     */
+    public static void record(final String callSite, final long millis, final int polls, final boolean timedOut) {
+        BY_CALLER.record(callSite, millis);
+        BY_SCENARIO.record(ScenarioContext.get(), millis);
+        POLLS.record(callSite, polls);
+        if (timedOut) {
+            TIMEOUTS.record(callSite, millis);
+        }
+    }
+
+    /**
+     * Method to account the implicit wait consumed by a lookup that found nothing
+     *
+     * @param callSite where the lookup was made, see {@link CallSite#describe(Class[])}
+     * @param millis   time spent in the lookup in millis
+     */
+    public static void recordImplicitWait(final String callSite, final long millis) {
+        IMPLICIT.record(callSite, millis);
+    }
+
+    /**
+     * Method to render the explicit wait report
+     *
+     * @return ranked report, empty if nothing waited
+     */
+    public static String report() {
+        final StringBuilder report = new StringBuilder();
+        if (!BY_CALLER.isEmpty()) {
+            report.append(BY_CALLER.format("Explicit waits by caller", "ms")).append(System.lineSeparator())
+                    .append(BY_SCENARIO.format("Explicit waits by scenario", "ms")).append(System.lineSeparator())
+                    .append(POLLS.format("Polls by caller", "polls"));
+        }
+        if (!TIMEOUTS.isEmpty()) {
+            report.append(System.lineSeparator()).append(TIMEOUTS.format("Timed out waits by caller", "ms"));
+        }
+        if (!IMPLICIT.isEmpty()) {
+            report.append(report.length() == 0 ? "" : System.lineSeparator())
+                    .append(IMPLICIT.format("Implicit waits of failed lookups by caller", "ms"));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Method to discard everything accounted so far
+     */
+    public static void reset() {
+        BY_CALLER.clear();
+        BY_SCENARIO.clear();
+        POLLS.clear();
+        TIMEOUTS.clear();
+        IMPLICIT.clear();
+    }
+}
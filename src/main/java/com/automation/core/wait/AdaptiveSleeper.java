@@ -0,0 +1,44 @@
+package com.automation.core.wait;
+
+import com.automation.core.utilities.Sleeper;
+
+import java.time.Duration;
+
+/**
+ * Polling pause of a wait. The first poll follows the initial check after {@code initialMillis}, every further pause
+ * doubles until it reaches the polling interval of the wait, so fast conditions are noticed within a few tens of
+ * milliseconds while long waits do not hammer the driver.
+ */
+final class AdaptiveSleeper implements org.openqa.selenium.support.ui.Sleeper {
+
+    private final long initialMillis;
+    private int polls;
+
+    AdaptiveSleeper(final long initialMillis) {
+        this.initialMillis = initialMillis;
+    }
+
+    /**
+     * Method to start a new wait, the backoff starts over
+     */
+    void reset() {
+        polls = 0;
+    }
+
+    /**
+     * @return pauses taken since the last {@link #reset()}
+     */
+    int getPolls() {
+        return polls;
+    }
+
+    @Override
+    public void sleep(final Duration interval) throws InterruptedException {
+        final long pause = Math.min(initialMillis << Math.min(polls, 20), Math.max(interval.toMillis(), 1));
+        polls++;
+        Sleeper.getClock().sleep(pause);
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Interrupted while waiting");
+        }
+    }
+}
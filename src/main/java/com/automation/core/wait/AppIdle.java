@@ -0,0 +1,191 @@
+package com.automation.core.wait;
+
+import com.automation.core.driver.DriverContext;
+import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.metrics.CallSite;
+import com.automation.core.utilities.metrics.WaitAccounting;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Waits inside the page until the application is idle: no {@code fetch} or {@code XMLHttpRequest} in flight and no
+ * {@code setTimeout} of up to a second pending. Works with any browser, unlike the DevTools based waits.
+ * <p>
+ * An instrumentation script wraps {@code fetch}, {@code XMLHttpRequest} and {@code setTimeout} of the page to count
+ * the pending work. It is injected after every {@code Page.open}/{@code goTo} and by the wait itself when the
+ * document was replaced in the meantime, in which case requests sent before the injection are not seen. The wait is
+ * a single asynchronous script checking the counters every 25 millis in the page. Recurring short timers, e.g. a
+ * {@code setTimeout} animation loop, keep the application busy. The script is started again when a navigation cut it
+ * short; any other failure of the script is thrown.
+ */
+@Slf4j
+public final class AppIdle {
+
+    private static final Duration SCRIPT_MARGIN = Duration.ofSeconds(2);
+
+    private static final String JSINSTALL = "function installAppIdle() {\n" +
+            "  if (window.__coreAppIdle) { return false; }\n" +
+            "  var setTimeout0 = window.setTimeout, clearTimeout0 = window.clearTimeout, pending = {};\n" +
+            "  var state = window.__coreAppIdle = {requests: {}, nextId: 0, timers: 0, setTimeout: setTimeout0};\n" +
+            "  function start(url) { var id = ++state.nextId; state.requests[id] = String(url); return id; }\n" +
+            "  function end(id) { delete state.requests[id]; }\n" +
+            "  var fetch0 = window.fetch;\n" +
+            "  if (fetch0) {\n" +
+            "    window.fetch = function (input) {\n" +
+            "      var id = start(input && input.url ? input.url : input);\n" +
+            "      try {\n" +
+            "        return fetch0.apply(window, arguments).then(function (r) { end(id); return r; }, function (e) { end(id); throw e; });\n" +
+            "      } catch (e) { end(id); throw e; }\n" +
+            "    };\n" +
+            "  }\n" +
+            "  var open0 = XMLHttpRequest.prototype.open, send0 = XMLHttpRequest.prototype.send;\n" +
+            "  XMLHttpRequest.prototype.open = function (method, url) { this.__coreUrl = url; return open0.apply(this, arguments); };\n" +
+            "  XMLHttpRequest.prototype.send = function () {\n" +
+            "    var id = start(this.__coreUrl);\n" +
+            "    this.addEventListener('loadend', function () { end(id); });\n" +
+            "    try { return send0.apply(this, arguments); } catch (e) { end(id); throw e; }\n" +
+            "  };\n" +
+            "  function settle(handle) { if (pending[handle]) { delete pending[handle]; state.timers--; } }\n" +
+            "  window.setTimeout = function (fn, delay) {\n" +
+            "    if (typeof fn !== 'function' || (delay || 0) > 1000) { return setTimeout0.apply(window, arguments); }\n" +
+            "    var args = Array.prototype.slice.call(arguments, 2), handle;\n" +
+            "    handle = setTimeout0.call(window, function () { settle(handle); return fn.apply(this, args); }, delay);\n" +
+            "    pending[handle] = true;\n" +
+            "    state.timers++;\n" +
+            "    return handle;\n" +
+            "  };\n" +
+            "  window.clearTimeout = function (handle) { settle(handle); return clearTimeout0.apply(window, arguments); };\n" +
+            "  return true;\n" +
+            "}\n";
+
+    private static final String JSAWAIT = "var quiet = arguments[0], max = arguments[1], timeout = arguments[2], patterns = arguments[3];\n" +
+            "var done = arguments[arguments.length - 1];\n" +
+            JSINSTALL +
+            "installAppIdle();\n" +
+            "var state = window.__coreAppIdle;\n" +
+            "var ignored = patterns.map(function (p) { return new RegExp(p); });\n" +
+            "function busy() {\n" +
+            "  var count = 0;\n" +
+            "  for (var id in state.requests) {\n" +
+            "    var url = state.requests[id];\n" +
+            "    if (!ignored.some(function (r) { return r.test(url); })) { count++; }\n" +
+            "  }\n" +
+            "  return count > max || state.timers > 0;\n" +
+            "}\n" +
+            "var start = Date.now(), idleSince = null;\n" +
+            "function check() {\n" +
+            "  var now = Date.now();\n" +
+            "  if (busy()) { idleSince = null; } else if (idleSince === null) { idleSince = now; }\n" +
+            "  if (idleSince !== null && now - idleSince >= quiet) { done(true); return; }\n" +
+            "  if (now - start >= timeout) { done(false); return; }\n" +
+            "  state.setTimeout.call(window, check, 25);\n" +
+            "}\n" +
+            "check();";
+
+    private AppIdle() {
+    }
+
+    /**
+     * Method to inject the instrumentation into the current document, nothing happens when it is already there
+     *
+     * @param driver {@link WebDriver}, wrapped or not
+     */
+    public static void install(final WebDriver driver) {
+        final DriverContext context = DriverContext.of(driver);
+        final JavascriptExecutor executor = DriverContext.executor(driver);
+        if (executor == null || !context.isScriptWaitsSupported()) {
+            return;
+        }
+        try {
+            executor.executeScript(JSINSTALL + "return installAppIdle();");
+        } catch (final UnsupportedCommandException | UnsupportedOperationException e) {
+            log.debug("Scripts are not supported in this session: {}", e.getMessage());
+            context.disableScriptWaits();
+        } catch (final WebDriverException e) {
+            log.debug("App idle instrumentation could not be injected: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Method to wait until at most {@code maxInflight} requests were in flight and no short timer was pending for the
+     * whole quiet period
+     *
+     * @param driver             {@link WebDriver}, wrapped or not
+     * @param quietPeriod        time the application must stay idle
+     * @param maxInflight        number of requests in flight still counted as idle
+     * @param timeout            time out of the wait
+     * @param ignoredUrlPatterns regular expressions of request URLs not to wait for, e.g. analytics beacons, in the
+     *                           syntax Java and JavaScript share
+     * @return false if the application was still busy at the time out, true as well when scripts cannot run
+     * @throws java.util.regex.PatternSyntaxException if a pattern is not a valid regular expression
+     * @throws org.openqa.selenium.JavascriptException if the script failed for another reason than a navigation
+     * @throws NoSuchWindowException if the window was closed
+     */
+    public static boolean await(final WebDriver driver, final Duration quietPeriod, final int maxInflight,
+                                final Duration timeout, final String... ignoredUrlPatterns) {
+        final DriverContext context = DriverContext.of(driver);
+        final JavascriptExecutor executor = DriverContext.executor(driver);
+        if (executor == null || !context.isScriptWaitsSupported()) {
+            return true;
+        }
+        // an invalid pattern fails here rather than in every attempt of the script
+        for (final String pattern : ignoredUrlPatterns) {
+            Pattern.compile(pattern);
+        }
+        final long start = Sleeper.getClock().nanoTime();
+        final long deadline = start + timeout.toNanos();
+        boolean idle = false;
+        int attempts = 0;
+        while (!idle) {
+            final long left = TimeUnit.NANOSECONDS.toMillis(deadline - Sleeper.getClock().nanoTime());
+            if (left <= 0) {
+                break;
+            }
+            try {
+                idle = Boolean.TRUE.equals(DomWatcher.withScriptTimeout(driver, context, Duration.ofMillis(left).plus(SCRIPT_MARGIN), () ->
+                        executor.executeAsyncScript(JSAWAIT, quietPeriod.toMillis(), maxInflight, left, Arrays.asList(ignoredUrlPatterns))));
+                if (!idle) {
+                    break;
+                }
+            } catch (final ScriptTimeoutException e) {
+                break;
+            } catch (final UnsupportedCommandException | UnsupportedOperationException e) {
+                log.debug("Scripts are not supported in this session: {}", e.getMessage());
+                context.disableScriptWaits();
+                return true;
+            } catch (final NoSuchWindowException e) {
+                throw e;
+            } catch (final WebDriverException e) {
+                if (!isNavigation(e)) {
+                    throw e;
+                }
+                log.debug("App idle wait interrupted by a navigation, waiting again: {}", e.getRawMessage());
+                attempts++;
+                Sleeper.getClock().sleep(50);
+            }
+        }
+        final long millis = TimeUnit.NANOSECONDS.toMillis(Sleeper.getClock().nanoTime() - start);
+        WaitAccounting.record(CallSite.describe(AppIdle.class), millis, attempts, !idle);
+        return idle;
+    }
+
+    /**
+     * @return true if the script was cut short by the document being replaced or its browsing context going away
+     */
+    private static boolean isNavigation(final WebDriverException e) {
+        final String message = String.valueOf(e.getRawMessage()).toLowerCase(Locale.ROOT);
+        return message.contains("unloaded") || message.contains("navigated") || message.contains("execution context")
+               || message.contains("detached");
+    }
+}
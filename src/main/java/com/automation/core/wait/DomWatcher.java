@@ -0,0 +1,163 @@
+package com.automation.core.wait;
+
+import com.automation.core.driver.DriverContext;
+import com.automation.core.factory.LocatorScripts;
+import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.metrics.CallSite;
+import com.automation.core.utilities.metrics.WaitAccounting;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Waits inside the browser for an element to become present, visible or invisible. A single asynchronous script
+ * watches the document with a {@code MutationObserver}, an {@code IntersectionObserver} on the element and the end
+ * of CSS transitions and animations, and returns as soon as the condition holds or the time out expires.
+ * <p>
+ * Enabled with the system property {@code core.wait.observer=true}. The result is only a fast way to block: callers
+ * confirm the condition with a polling wait afterwards, which returns on its first check when the browser agreed.
+ * When the script cannot run, e.g. in a native app context, the session falls back to polling waits.
+ *
+ * @see DriverContext#isScriptWaitsSupported()
+ */
+@Slf4j
+public final class DomWatcher {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("core.wait.observer", "false"));
+    private static final Duration SCRIPT_MARGIN = Duration.ofSeconds(2);
+
+    private static final String JSWATCH = "var mode = arguments[0], target = arguments[1], query = arguments[2], timeout = arguments[3];\n" +
+            "var done = arguments[arguments.length - 1];\n" +
+            LocatorScripts.IS_DISPLAYED +
+            LocatorScripts.FIND_ALL +
+            "function current() {\n" +
+            "  if (target) { return target.isConnected ? target : null; }\n" +
+            "  var all = findAll(query[0], query[1]);\n" +
+            "  return all && all.length ? all[0] : null;\n" +
+            "}\n" +
+            "function check() {\n" +
+            "  var e = current();\n" +
+            "  if (mode === 'present') { return e !== null; }\n" +
+            "  if (mode === 'visible') { return e !== null && isDisplayed(e); }\n" +
+            "  return e === null || !isDisplayed(e);\n" +
+            "}\n" +
+            "var finished = false, mutations = null, intersections = null, timer = null, safety = null;\n" +
+            "function finish(result) {\n" +
+            "  if (finished) { return; }\n" +
+            "  finished = true;\n" +
+            "  if (mutations) { mutations.disconnect(); }\n" +
+            "  if (intersections) { intersections.disconnect(); }\n" +
+            "  clearTimeout(timer);\n" +
+            "  clearInterval(safety);\n" +
+            "  document.removeEventListener('transitionend', recheck, true);\n" +
+            "  document.removeEventListener('animationend', recheck, true);\n" +
+            "  done(result);\n" +
+            "}\n" +
+            "function recheck() {\n" +
+            "  try { if (check()) { finish(true); } } catch (err) { finish(false); }\n" +
+            "}\n" +
+            "recheck();\n" +
+            "if (!finished) {\n" +
+            "  mutations = new MutationObserver(recheck);\n" +
+            "  mutations.observe(document.documentElement || document, {childList: true, subtree: true, attributes: true, characterData: true});\n" +
+            "  if (target && window.IntersectionObserver) {\n" +
+            "    intersections = new IntersectionObserver(recheck);\n" +
+            "    intersections.observe(target);\n" +
+            "  }\n" +
+            "  document.addEventListener('transitionend', recheck, true);\n" +
+            "  document.addEventListener('animationend', recheck, true);\n" +
+            "  safety = setInterval(recheck, 250);\n" +
+            "  timer = setTimeout(function () { finish(false); }, timeout);\n" +
+            "}";
+
+    /**
+     * Condition waited for
+     */
+    public enum Condition {
+        PRESENT, VISIBLE, INVISIBLE
+    }
+
+    private DomWatcher() {
+    }
+
+    /**
+     * @return true if the browser side waits are enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Method to block inside the browser until the condition holds or the time out expires
+     *
+     * @param driver    {@link WebDriver} of the element
+     * @param condition condition to wait for
+     * @param element   element to watch, or null to watch the locator
+     * @param by        locator to watch when no element is given
+     * @param timeout   time out of the wait
+     * @return time left of the time out, for the polling wait confirming the condition. The whole time out when the
+     * browser side wait is disabled or not possible for the element or locator.
+     */
+    public static Duration await(final WebDriver driver, final Condition condition, final WebElement element,
+                                 final By by, final Duration timeout) {
+        if (!ENABLED || timeout.isZero() || timeout.isNegative()) {
+            return timeout;
+        }
+        final DriverContext context = DriverContext.of(driver);
+        final JavascriptExecutor executor = DriverContext.executor(driver);
+        final List<Object> query = element == null ? LocatorScripts.queryOf(by) : null;
+        if (!context.isScriptWaitsSupported() || executor == null || (element == null && query == null)) {
+            return timeout;
+        }
+
+        final long start = Sleeper.getClock().nanoTime();
+        boolean timedOut = false;
+        try {
+            final Object target = element instanceof WrapsElement ? ((WrapsElement) element).getWrappedElement() : element;
+            timedOut = !Boolean.TRUE.equals(withScriptTimeout(driver, context, timeout.plus(SCRIPT_MARGIN), () ->
+                    executor.executeAsyncScript(JSWATCH, condition.name().toLowerCase(Locale.ROOT), target, query, timeout.toMillis())));
+        } catch (final ScriptTimeoutException | StaleElementReferenceException e) {
+            timedOut = true;
+        } catch (final UnsupportedCommandException | UnsupportedOperationException e) {
+            log.debug("Browser side waits are not supported in this session: {}", e.getMessage());
+            context.disableScriptWaits();
+        } catch (final WebDriverException e) {
+            log.debug("Browser side wait failed, falling back to polling: {}", e.getMessage());
+        }
+        final long millis = TimeUnit.NANOSECONDS.toMillis(Sleeper.getClock().nanoTime() - start);
+        WaitAccounting.record(CallSite.describe(DomWatcher.class), millis, 0, timedOut);
+        final Duration remaining = timeout.minusMillis(millis);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    static Object withScriptTimeout(final WebDriver driver, final DriverContext context, final Duration needed,
+                                    final Supplier<Object> call) {
+        Duration current = context.getScriptTimeout();
+        if (current == null) {
+            current = driver.manage().timeouts().getScriptTimeout();
+            context.setScriptTimeout(current);
+        }
+        if (current.compareTo(needed) >= 0) {
+            return call.get();
+        }
+        driver.manage().timeouts().setScriptTimeout(needed);
+        try {
+            return call.get();
+        } finally {
+            driver.manage().timeouts().setScriptTimeout(current);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.automation.core.wait;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.util.function.Function;
+
+/**
+ * {@link FluentWait} with adaptive polling whose every {@link #until(Function)} is accounted in
+ * {@link com.automation.core.utilities.metrics.WaitAccounting}. A wait on a {@link WebDriver} runs without its implicit
+ * wait.
+ *
+ * @param <T> input type of the wait
+ */
+final class MeteredFluentWait<T> extends FluentWait<T> {
+
+    private final AdaptiveSleeper sleeper;
+    private final WebDriver governed;
+
+    MeteredFluentWait(final T input, final AdaptiveSleeper sleeper) {
+        super(input, WaitClock.INSTANCE, sleeper);
+        this.sleeper = sleeper;
+        this.governed = input instanceof WebDriver ? (WebDriver) input : null;
+    }
+
+    @Override
+    public <V> V until(final Function<? super T, V> isTrue) {
+        return WaitEngine.measure(sleeper, isTrue, governed, () -> super.until(isTrue));
+    }
+}
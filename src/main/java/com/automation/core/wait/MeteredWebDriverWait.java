@@ -0,0 +1,29 @@
+package com.automation.core.wait;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * {@link WebDriverWait} with adaptive polling whose every {@link #until(Function)} is accounted in
+ * {@link com.automation.core.utilities.metrics.WaitAccounting}
+ */
+final class MeteredWebDriverWait extends WebDriverWait {
+
+    private final AdaptiveSleeper sleeper;
+    private final WebDriver governed;
+
+    MeteredWebDriverWait(final WebDriver driver, final Duration timeout, final Duration maxPolling,
+                         final AdaptiveSleeper sleeper, final boolean withoutImplicitWait) {
+        super(driver, timeout, maxPolling, WaitClock.INSTANCE, sleeper);
+        this.sleeper = sleeper;
+        this.governed = withoutImplicitWait ? driver : null;
+    }
+
+    @Override
+    public <V> V until(final Function<? super WebDriver, V> isTrue) {
+        return WaitEngine.measure(sleeper, isTrue, governed, () -> super.until(isTrue));
+    }
+}
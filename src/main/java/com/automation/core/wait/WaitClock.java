@@ -0,0 +1,35 @@
+package com.automation.core.wait;
+
+import com.automation.core.utilities.Sleeper;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * {@link Clock} view of the clock installed in {@link Sleeper}, so waits follow a
+ * {@link com.automation.core.utilities.clock.VirtualClock} as well
+ */
+final class WaitClock extends Clock {
+
+    static final WaitClock INSTANCE = new WaitClock();
+
+    private WaitClock() {
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        return Clock.fixed(instant(), zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(Sleeper.getClock().currentTimeMillis());
+    }
+}
@@ -0,0 +1,130 @@
+package com.automation.core.wait;
+
+import com.automation.core.driver.TimeoutGovernor;
+import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.metrics.CallSite;
+import com.automation.core.utilities.metrics.WaitAccounting;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Creates the explicit waits of the framework.
+ * <p>
+ * The condition is checked immediately and then after pauses starting at {@code core.wait.poll.initial} millis
+ * (default 50) which double up to the polling interval of the wait, {@code core.wait.poll.max} millis (default 500)
+ * unless given. A wait returns as soon as its condition is met, which a fixed interval only notices on the next tick.
+ * Every wait is accounted per call site and scenario in {@link WaitAccounting}.
+ * <p>
+ * Waits on a {@link WebDriver} suspend its implicit wait, see {@link TimeoutGovernor}, so a condition locating a
+ * missing element is checked again after the next pause instead of after the implicit wait.
+ * {@link #elementWait(WebDriver, Duration)} leaves the implicit wait as it is, for conditions on elements
+ * already found which do not locate anything.
+ * <p>
+ * Waits are driven by the calling thread, as the driver has to be, and use the clock installed in {@link Sleeper}.
+ */
+@Slf4j
+public final class WaitEngine {
+
+    private static final long INITIAL_POLL_MILLIS = Long.getLong("core.wait.poll.initial", 50L);
+    private static final Duration MAX_POLLING = Duration.ofMillis(Long.getLong("core.wait.poll.max", 500L));
+
+    private WaitEngine() {
+    }
+
+    /**
+     * Method to create a {@link WebDriverWait} with adaptive polling
+     *
+     * @param driver  {@link WebDriver}
+     * @param timeout time out of the wait
+     * @return {@link WebDriverWait}
+     */
+    public static WebDriverWait webDriverWait(final WebDriver driver, final Duration timeout) {
+        return webDriverWait(driver, timeout, MAX_POLLING);
+    }
+
+    /**
+     * Method to create a {@link WebDriverWait} with adaptive polling
+     *
+     * @param driver     {@link WebDriver}
+     * @param timeout    time out of the wait
+     * @param maxPolling longest pause between two checks
+     * @return {@link WebDriverWait}
+     */
+    public static WebDriverWait webDriverWait(final WebDriver driver, final Duration timeout, final Duration maxPolling) {
+        return new MeteredWebDriverWait(driver, timeout, maxPolling, new AdaptiveSleeper(INITIAL_POLL_MILLIS), true);
+    }
+
+    /**
+     * Method to create a {@link WebDriverWait} with adaptive polling for conditions on an element already found,
+     * e.g. its visibility. The implicit wait is not suspended, saving the calls to change it.
+     *
+     * @param driver  {@link WebDriver}
+     * @param timeout time out of the wait
+     * @return {@link WebDriverWait}
+     */
+    public static WebDriverWait elementWait(final WebDriver driver, final Duration timeout) {
+        return new MeteredWebDriverWait(driver, timeout, MAX_POLLING, new AdaptiveSleeper(INITIAL_POLL_MILLIS), false);
+    }
+
+    /**
+     * Method to create a {@link FluentWait} with adaptive polling
+     *
+     * @param input   input of the condition, e.g. the {@link WebDriver}
+     * @param timeout time out of the wait
+     * @param <T>     type of the input
+     * @return {@link FluentWait}
+     */
+    public static <T> FluentWait<T> fluentWait(final T input, final Duration timeout) {
+        return fluentWait(input, timeout, MAX_POLLING);
+    }
+
+    /**
+     * Method to create a {@link FluentWait} with adaptive polling
+     *
+     * @param input      input of the condition, e.g. the {@link WebDriver}
+     * @param timeout    time out of the wait
+     * @param maxPolling longest pause between two checks
+     * @param <T>        type of the input
+     * @return {@link FluentWait}
+     */
+    public static <T> FluentWait<T> fluentWait(final T input, final Duration timeout, final Duration maxPolling) {
+        return new MeteredFluentWait<>(input, new AdaptiveSleeper(INITIAL_POLL_MILLIS))
+                .withTimeout(timeout)
+                .pollingEvery(maxPolling);
+    }
+
+    /**
+     * Method to run and account one wait
+     *
+     * @param sleeper   pauses of the wait
+     * @param condition condition waited for, used in the log
+     * @param governed  driver whose implicit wait is suspended during the wait, or null
+     * @param wait      the actual wait
+     * @param <V>       result type of the condition
+     * @return result of the condition
+     */
+    static <V> V measure(final AdaptiveSleeper sleeper, final Object condition, final WebDriver governed,
+                         final Supplier<V> wait) {
+        sleeper.reset();
+        final long start = Sleeper.getClock().nanoTime();
+        boolean timedOut = false;
+        try {
+            return governed == null ? wait.get() : TimeoutGovernor.withoutImplicitWait(governed, wait);
+        } catch (final TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            final long millis = TimeUnit.NANOSECONDS.toMillis(Sleeper.getClock().nanoTime() - start);
+            WaitAccounting.record(CallSite.describe(WaitEngine.class, MeteredFluentWait.class, MeteredWebDriverWait.class),
+                    millis, sleeper.getPolls(), timedOut);
+            log.debug("Waited {} ms with {} polls for {}{}", millis, sleeper.getPolls(), condition, timedOut ? ", timed out" : "");
+        }
+    }
+}
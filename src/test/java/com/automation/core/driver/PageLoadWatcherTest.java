@@ -0,0 +1,117 @@
+package com.automation.core.driver;
+
+import com.automation.core.utilities.Sleeper;
+import com.automation.core.utilities.clock.Clock;
+import com.automation.core.utilities.clock.VirtualClock;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Drives the DevTools page load wait on a {@link VirtualClock}, the DevTools events arriving at set virtual times
+ */
+public class PageLoadWatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private Clock previous;
+    private ScriptedClock clock;
+    private PageLoadState pageLoads;
+
+    @BeforeMethod
+    public void setUp() {
+        previous = Sleeper.getClock();
+        clock = new ScriptedClock();
+        Sleeper.setClock(clock);
+        pageLoads = new PageLoadState();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Sleeper.setClock(previous);
+    }
+
+    @Test
+    public void armedNavigationNotStartedYetIsWaitedFor() {
+        pageLoads.arm();
+        clock.at(150, pageLoads::started);
+        clock.at(420, pageLoads::loaded);
+
+        assertTrue(PageLoadWatcher.awaitEvents(pageLoads, TIMEOUT));
+        assertEquals(clock.elapsedMillis(), 420);
+    }
+
+    @Test
+    public void armedNavigationAlreadyLoadedReturnsAtOnce() {
+        pageLoads.arm();
+        pageLoads.started();
+        pageLoads.loaded();
+
+        assertTrue(PageLoadWatcher.awaitEvents(pageLoads, TIMEOUT));
+        assertEquals(clock.elapsedMillis(), 0);
+    }
+
+    @Test
+    public void armedNavigationNeverLoadingTimesOut() {
+        pageLoads.arm();
+        pageLoads.started();
+
+        assertFalse(PageLoadWatcher.awaitEvents(pageLoads, TIMEOUT));
+        assertEquals(clock.elapsedMillis(), TIMEOUT.toMillis());
+    }
+
+    @Test
+    public void unarmedWaitWithoutNavigationEndsAfterTheGracePeriod() {
+        assertTrue(PageLoadWatcher.awaitEvents(pageLoads, TIMEOUT));
+        assertEquals(clock.elapsedMillis(), 100);
+    }
+
+    @Test
+    public void unarmedWaitFollowsANavigationStartingInTheGracePeriod() {
+        clock.at(60, pageLoads::started);
+        clock.at(700, pageLoads::loaded);
+
+        assertTrue(PageLoadWatcher.awaitEvents(pageLoads, TIMEOUT));
+        assertEquals(clock.elapsedMillis(), 700);
+    }
+
+    @Test
+    public void armIsTakenByTheFirstWait() {
+        pageLoads.arm();
+        pageLoads.started();
+        pageLoads.loaded();
+        PageLoadWatcher.awaitEvents(pageLoads, TIMEOUT);
+
+        assertTrue(PageLoadWatcher.awaitEvents(pageLoads, TIMEOUT));
+        assertEquals(clock.elapsedMillis(), 100);
+    }
+
+    /**
+     * Virtual clock firing the scheduled events when its time passes them
+     */
+    private static final class ScriptedClock extends VirtualClock {
+
+        private final TreeMap<Long, Runnable> events = new TreeMap<>();
+
+        void at(final long millis, final Runnable event) {
+            events.put(millis, event);
+        }
+
+        @Override
+        public void sleep(final long millis) {
+            super.sleep(millis);
+            Map.Entry<Long, Runnable> next;
+            while ((next = events.firstEntry()) != null && next.getKey() <= elapsedMillis()) {
+                events.pollFirstEntry().getValue().run();
+            }
+        }
+    }
+}